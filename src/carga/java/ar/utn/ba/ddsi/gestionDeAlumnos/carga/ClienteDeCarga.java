@@ -0,0 +1,151 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.carga;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+// Un usuario que navega sin pausas: elige la próxima operación según la mezcla, espera la
+// respuesta completa y recién ahí sigue (lazo cerrado). Tiene sus propias cookies, como un
+// navegador, así los mensajes flash de los redirects no abren una sesión por pedido.
+// Solo elimina alumnos que creó él, así el padrón sembrado se mantiene estable.
+final class ClienteDeCarga implements Runnable {
+    private static final String[] ORDENES = {"alta", "legajo", "apellido"};
+
+    private final int numero;
+    private final URI base;
+    private final int alumnos;
+    private final OperacionDeCarga[] ruleta;
+    private final long inicioDeMedicion;
+    private final long fin;
+    private final HttpClient http;
+    private final Random azar;
+    private final Map<OperacionDeCarga, RegistroDeLatencias> registros = new EnumMap<>(OperacionDeCarga.class);
+    private final ArrayDeque<String> creados = new ArrayDeque<>();
+    private int creadosEnTotal;
+
+    ClienteDeCarga(int numero, URI base, int alumnos, OperacionDeCarga[] ruleta, long inicioDeMedicion, long fin) {
+        this.numero = numero;
+        this.base = base;
+        this.alumnos = alumnos;
+        this.ruleta = ruleta;
+        this.inicioDeMedicion = inicioDeMedicion;
+        this.fin = fin;
+        this.azar = new Random(numero);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < fin) {
+            OperacionDeCarga operacion = ruleta[azar.nextInt(ruleta.length)];
+            if (operacion == OperacionDeCarga.ELIMINAR && creados.isEmpty()) {
+                operacion = OperacionDeCarga.CREAR;
+            }
+            String legajo = legajoPara(operacion);
+            HttpRequest pedido = pedido(operacion, legajo);
+
+            long inicio = System.nanoTime();
+            boolean exitoso;
+            try {
+                exitoso = exitoso(operacion, http.send(pedido, HttpResponse.BodyHandlers.discarding()));
+            } catch (IOException e) {
+                exitoso = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long duracion = System.nanoTime() - inicio;
+
+            if (inicio >= inicioDeMedicion) {
+                registros.computeIfAbsent(operacion, clave -> new RegistroDeLatencias()).registrar(duracion, exitoso);
+            }
+            if (exitoso && operacion == OperacionDeCarga.CREAR) {
+                creados.add(legajo);
+            }
+        }
+        http.close();
+    }
+
+    Map<OperacionDeCarga, RegistroDeLatencias> getRegistros() {
+        return registros;
+    }
+
+    private String legajoPara(OperacionDeCarga operacion) {
+        return switch (operacion) {
+            case CREAR -> "K" + numero + "-" + (creadosEnTotal++);
+            case ELIMINAR -> creados.poll();
+            default -> GeneradorDeCarga.legajoSembrado(azar.nextInt(alumnos));
+        };
+    }
+
+    private HttpRequest pedido(OperacionDeCarga operacion, String legajo) {
+        return switch (operacion) {
+            case LISTAR -> get("/alumnos?orden=" + ORDENES[azar.nextInt(ORDENES.length)]
+                    + (azar.nextInt(5) == 0 ? "&filtro=" + codificar(GeneradorDeCarga.apellido(azar.nextInt(alumnos))) : ""),
+                    operacion);
+            case DETALLE -> get("/alumnos/" + legajo, operacion);
+            case CREAR -> post("/alumnos/crear", formulario(legajo, "Alta"), operacion);
+            case EDITAR -> post("/alumnos/" + legajo + "/actualizar", formulario(legajo, "Editado" + azar.nextInt(100)), operacion);
+            case ELIMINAR -> post("/alumnos/" + legajo + "/eliminar", "", operacion);
+        };
+    }
+
+    // Un alta o modificación que sale bien redirige al detalle; un error vuelve a mostrar el formulario
+    private static boolean exitoso(OperacionDeCarga operacion, HttpResponse<Void> respuesta) {
+        if (operacion == OperacionDeCarga.LISTAR || operacion == OperacionDeCarga.DETALLE) {
+            return respuesta.statusCode() == 200;
+        }
+        return respuesta.statusCode() == 302
+                && !respuesta.headers().firstValue("Location").orElse("").endsWith("/404");
+    }
+
+    private HttpRequest get(String ruta, OperacionDeCarga operacion) {
+        return HttpRequest.newBuilder(base.resolve(ruta))
+                .header(OperacionDeCarga.HEADER, operacion.name())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String ruta, String cuerpo, OperacionDeCarga operacion) {
+        return HttpRequest.newBuilder(base.resolve(ruta))
+                .header(OperacionDeCarga.HEADER, operacion.name())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .build();
+    }
+
+    private static String formulario(String legajo, String nombre) {
+        Map<String, String> campos = new LinkedHashMap<>();
+        campos.put("legajo", legajo);
+        campos.put("nombre", nombre);
+        campos.put("apellido", "Carga");
+        campos.put("contactos[0].tipoContacto", "EMAIL");
+        campos.put("contactos[0].valor", legajo.toLowerCase() + "@carga.com");
+        campos.put("contactos[1].tipoContacto", "TELEFONO");
+        campos.put("contactos[1].valor", "11" + Math.abs(legajo.hashCode() % 100_000_000));
+        return campos.entrySet().stream()
+                .map(campo -> codificar(campo.getKey()) + "=" + codificar(campo.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,191 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.carga;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.GestionDeAlumnosApplication;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Generador de carga de punta a punta. Levanta la aplicación en este mismo proceso en un
+// puerto libre, siembra N alumnos por el repositorio y durante un tiempo fijo navega con C
+// clientes concurrentes: listado, detalle, alta, modificación y baja contra AlumnoController.
+// Informa pedidos/s, latencias p50/p99/p999 (medidas en el cliente) y bytes asignados por
+// operación (medidos en el hilo que atiende cada request).
+//
+//   mvn -Pcarga verify -Dcarga.args="--alumnos=100000 --clientes=32 --duracion=60"
+//
+// Opciones: --alumnos, --clientes, --calentamiento y --duracion (segundos) y --mezcla
+// (pesos, por defecto listar:40,detalle:40,crear:8,editar:8,eliminar:4). El resto de los
+// argumentos va a la aplicación, por ejemplo --spring.threads.virtual.enabled=true.
+public final class GeneradorDeCarga {
+    private static final String[] NOMBRES = {"Juan", "María", "Carlos", "Ana", "Luis", "Sofía", "Martín", "Lucía"};
+    private static final String[] APELLIDOS = {"Pérez", "González", "Rodríguez", "Martínez", "López", "García", "Fernández", "Díaz"};
+    private static final int TAMANIO_DE_LOTE = 10_000;
+
+    private GeneradorDeCarga() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int alumnos = 100_000;
+        int clientes = 32;
+        int calentamiento = 10;
+        int duracion = 30;
+        String mezcla = OperacionDeCarga.MEZCLA_POR_DEFECTO;
+        List<String> argumentosDeLaAplicacion = new ArrayList<>(List.of("--server.port=0", "--logging.level.root=WARN", "--logging.level.org.thymeleaf=ERROR"));
+        for (String argumento : args) {
+            String[] claveYValor = argumento.replaceFirst("^--", "").split("=", 2);
+            String valor = claveYValor.length == 2 ? claveYValor[1] : "";
+            switch (claveYValor[0]) {
+                case "alumnos" -> alumnos = Integer.parseInt(valor);
+                case "clientes" -> clientes = Integer.parseInt(valor);
+                case "calentamiento" -> calentamiento = Integer.parseInt(valor);
+                case "duracion" -> duracion = Integer.parseInt(valor);
+                case "mezcla" -> mezcla = valor;
+                default -> argumentosDeLaAplicacion.add(argumento);
+            }
+        }
+        Map<OperacionDeCarga, Integer> pesos = OperacionDeCarga.mezcla(mezcla);
+
+        MedidorDeAsignaciones medidor = new MedidorDeAsignaciones();
+        SpringApplication aplicacion = new SpringApplication(GestionDeAlumnosApplication.class);
+        aplicacion.addInitializers(contexto ->
+                ((GenericApplicationContext) contexto).registerBean(MedidorDeAsignaciones.class, () -> medidor));
+        ConfigurableApplicationContext contexto = aplicacion.run(argumentosDeLaAplicacion.toArray(String[]::new));
+        int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+
+        long inicioDeSiembra = System.nanoTime();
+        sembrar(contexto.getBean(AlumnosRepository.class), alumnos);
+        System.out.printf("Aplicación en el puerto %d, %d alumnos sembrados en %d ms%n",
+                puerto, alumnos, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicioDeSiembra));
+        System.out.printf("%d clientes, mezcla %s, hilos virtuales: %s, %d s de calentamiento y %d s medidos%n",
+                clientes, mezcla, contexto.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"),
+                calentamiento, duracion);
+
+        long inicioDeMedicion = System.nanoTime() + TimeUnit.SECONDS.toNanos(calentamiento);
+        long fin = inicioDeMedicion + TimeUnit.SECONDS.toNanos(duracion);
+        URI base = URI.create("http://localhost:" + puerto);
+        OperacionDeCarga[] ruleta = ruleta(pesos);
+        List<ClienteDeCarga> lista = new ArrayList<>(clientes);
+        List<Thread> hilos = new ArrayList<>(clientes);
+        for (int i = 0; i < clientes; i++) {
+            ClienteDeCarga cliente = new ClienteDeCarga(i, base, alumnos, ruleta, inicioDeMedicion, fin);
+            lista.add(cliente);
+            hilos.add(Thread.ofPlatform().name("cliente-de-carga-" + i).start(cliente));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(inicioDeMedicion - System.nanoTime());
+        medidor.activar();
+        long[] gcAntes = recolecciones();
+        TimeUnit.NANOSECONDS.sleep(fin - System.nanoTime());
+        medidor.desactivar();
+        long[] gcDespues = recolecciones();
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+
+        Map<OperacionDeCarga, RegistroDeLatencias> resultados = new EnumMap<>(OperacionDeCarga.class);
+        for (OperacionDeCarga operacion : pesos.keySet()) {
+            resultados.put(operacion, RegistroDeLatencias.combinar(lista.stream()
+                    .map(cliente -> cliente.getRegistros().get(operacion))
+                    .filter(Objects::nonNull)
+                    .toList()));
+        }
+        informar(resultados, medidor, duracion, gcDespues[0] - gcAntes[0], gcDespues[1] - gcAntes[1]);
+
+        contexto.close();
+        System.exit(0);
+    }
+
+    static String legajoSembrado(int i) {
+        return String.format("S%07d", i);
+    }
+
+    static String apellido(int i) {
+        return APELLIDOS[(i / NOMBRES.length) % APELLIDOS.length];
+    }
+
+    private static void sembrar(AlumnosRepository repositorio, int cantidad) {
+        List<Alumno> lote = new ArrayList<>(TAMANIO_DE_LOTE);
+        for (int i = 0; i < cantidad; i++) {
+            Alumno alumno = new Alumno();
+            alumno.setLegajo(legajoSembrado(i));
+            alumno.setNombre(NOMBRES[i % NOMBRES.length]);
+            alumno.setApellido(apellido(i));
+            alumno.agregarContacto(contacto(TipoContacto.EMAIL, "alumno" + i + "@email.com"));
+            alumno.agregarContacto(contacto(TipoContacto.TELEFONO, "11" + String.format("%08d", i)));
+            lote.add(alumno);
+            if (lote.size() == TAMANIO_DE_LOTE) {
+                repositorio.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repositorio.saveAll(lote);
+    }
+
+    private static Contacto contacto(TipoContacto tipo, String valor) {
+        Contacto contacto = new Contacto();
+        contacto.setTipoContacto(tipo);
+        contacto.setValor(valor);
+        return contacto;
+    }
+
+    // Cada operación aparece tantas veces como su peso: elegir es un acceso al azar
+    private static OperacionDeCarga[] ruleta(Map<OperacionDeCarga, Integer> pesos) {
+        List<OperacionDeCarga> ruleta = new ArrayList<>();
+        pesos.forEach((operacion, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                ruleta.add(operacion);
+            }
+        });
+        return ruleta.toArray(OperacionDeCarga[]::new);
+    }
+
+    // Cantidad de recolecciones y milisegundos de GC acumulados
+    private static long[] recolecciones() {
+        long[] total = new long[2];
+        for (GarbageCollectorMXBean recolector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total[0] += Math.max(0, recolector.getCollectionCount());
+            total[1] += Math.max(0, recolector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static void informar(Map<OperacionDeCarga, RegistroDeLatencias> resultados, MedidorDeAsignaciones medidor,
+                                 int duracion, long recolecciones, long milisegundosDeGc) {
+        System.out.println();
+        System.out.printf("%-9s %9s %10s %9s %9s %9s %9s %8s %11s %11s%n",
+                "Operación", "Pedidos", "Pedidos/s", "p50 ms", "p99 ms", "p999 ms", "máx ms", "Errores", "KB/pedido", "MB/s asig.");
+        long pedidos = 0;
+        long bytes = 0;
+        for (Map.Entry<OperacionDeCarga, RegistroDeLatencias> entrada : resultados.entrySet()) {
+            RegistroDeLatencias registro = entrada.getValue();
+            long medidos = medidor.getPedidos(entrada.getKey());
+            long asignados = medidor.getBytes(entrada.getKey());
+            pedidos += registro.getCantidad();
+            bytes += asignados;
+            System.out.printf("%-9s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %8d %11s %11s%n",
+                    entrada.getKey(), registro.getCantidad(), (double) registro.getCantidad() / duracion,
+                    registro.percentil(50), registro.percentil(99), registro.percentil(99.9), registro.maximo(),
+                    registro.getErrores(),
+                    medidos == 0 ? "n/d" : String.format("%.1f", asignados / 1024.0 / medidos),
+                    medidos == 0 ? "n/d" : String.format("%.1f", asignados / 1e6 / duracion));
+        }
+        System.out.printf("%-9s %9d %10.1f %70s%n", "TOTAL", pedidos, (double) pedidos / duracion,
+                bytes == 0 ? "" : String.format("%.1f MB/s asignados al atender", bytes / 1e6 / duracion));
+        System.out.printf("GC en la ventana medida: %d recolecciones, %d ms%n", recolecciones, milisegundosDeGc);
+    }
+}
@@ -0,0 +1,66 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.carga;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Filtro que el generador registra en la aplicación: mide los bytes que asigna el hilo que
+// atiende cada request (ThreadMXBean) y los acumula por operación. Un hilo virtual no
+// informa sus asignaciones, así que en ese modo la medición queda vacía.
+class MedidorDeAsignaciones extends OncePerRequestFilter {
+    private final com.sun.management.ThreadMXBean hilos =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<OperacionDeCarga, LongAdder> bytes = new EnumMap<>(OperacionDeCarga.class);
+    private final Map<OperacionDeCarga, LongAdder> pedidos = new EnumMap<>(OperacionDeCarga.class);
+    private volatile boolean activo;
+
+    MedidorDeAsignaciones() {
+        hilos.setThreadAllocatedMemoryEnabled(true);
+        for (OperacionDeCarga operacion : OperacionDeCarga.values()) {
+            bytes.put(operacion, new LongAdder());
+            pedidos.put(operacion, new LongAdder());
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        OperacionDeCarga operacion = activo ? OperacionDeCarga.desdeHeader(request.getHeader(OperacionDeCarga.HEADER)) : null;
+        long antes = operacion != null ? hilos.getCurrentThreadAllocatedBytes() : -1;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (antes >= 0) {
+                long despues = hilos.getCurrentThreadAllocatedBytes();
+                if (despues >= antes) {
+                    bytes.get(operacion).add(despues - antes);
+                    pedidos.get(operacion).increment();
+                }
+            }
+        }
+    }
+
+    void activar() {
+        activo = true;
+    }
+
+    void desactivar() {
+        activo = false;
+    }
+
+    long getBytes(OperacionDeCarga operacion) {
+        return bytes.get(operacion).sum();
+    }
+
+    long getPedidos(OperacionDeCarga operacion) {
+        return pedidos.get(operacion).sum();
+    }
+}
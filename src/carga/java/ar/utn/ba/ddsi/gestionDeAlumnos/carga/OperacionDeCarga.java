@@ -0,0 +1,46 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.carga;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Operaciones que el generador hace contra AlumnoController, como las haría un navegador
+enum OperacionDeCarga {
+    LISTAR,
+    DETALLE,
+    CREAR,
+    EDITAR,
+    ELIMINAR;
+
+    static final String MEZCLA_POR_DEFECTO = "listar:40,detalle:40,crear:8,editar:8,eliminar:4";
+    // El servidor agrupa las asignaciones por este header
+    static final String HEADER = "X-Operacion-De-Carga";
+
+    static OperacionDeCarga desdeHeader(String valor) {
+        for (OperacionDeCarga operacion : values()) {
+            if (operacion.name().equals(valor)) {
+                return operacion;
+            }
+        }
+        return null;
+    }
+
+    // "listar:40,detalle:40,..." -> pesos relativos; las que no aparecen no se ejecutan
+    static Map<OperacionDeCarga, Integer> mezcla(String descripcion) {
+        Map<OperacionDeCarga, Integer> pesos = new EnumMap<>(OperacionDeCarga.class);
+        for (String parte : descripcion.split(",")) {
+            String[] operacionYPeso = parte.trim().split(":");
+            if (operacionYPeso.length != 2) {
+                throw new IllegalArgumentException("Mezcla inválida: " + parte);
+            }
+            int peso = Integer.parseInt(operacionYPeso[1].trim());
+            if (peso > 0) {
+                pesos.put(valueOf(operacionYPeso[0].trim().toUpperCase(Locale.ROOT)), peso);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación");
+        }
+        return pesos;
+    }
+}
@@ -0,0 +1,56 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.carga;
+
+import java.util.Arrays;
+
+// Latencias de un cliente para una operación, en nanosegundos. Se guardan todas (no un
+// histograma) para que los percentiles altos salgan exactos; cada cliente escribe el suyo.
+final class RegistroDeLatencias {
+    private long[] latencias = new long[1024];
+    private int cantidad;
+    private int errores;
+
+    void registrar(long nanos, boolean exitoso) {
+        if (cantidad == latencias.length) {
+            latencias = Arrays.copyOf(latencias, cantidad * 2);
+        }
+        latencias[cantidad++] = nanos;
+        if (!exitoso) {
+            errores++;
+        }
+    }
+
+    static RegistroDeLatencias combinar(Iterable<RegistroDeLatencias> registros) {
+        RegistroDeLatencias total = new RegistroDeLatencias();
+        for (RegistroDeLatencias registro : registros) {
+            if (total.latencias.length < total.cantidad + registro.cantidad) {
+                total.latencias = Arrays.copyOf(total.latencias, total.cantidad + registro.cantidad);
+            }
+            System.arraycopy(registro.latencias, 0, total.latencias, total.cantidad, registro.cantidad);
+            total.cantidad += registro.cantidad;
+            total.errores += registro.errores;
+        }
+        Arrays.sort(total.latencias, 0, total.cantidad);
+        return total;
+    }
+
+    int getCantidad() {
+        return cantidad;
+    }
+
+    int getErrores() {
+        return errores;
+    }
+
+    // Percentil por rango más cercano, en milisegundos; solo sobre un registro combinado
+    double percentil(double percentil) {
+        if (cantidad == 0) {
+            return 0;
+        }
+        int rango = (int) Math.ceil(percentil / 100 * cantidad);
+        return latencias[Math.max(0, Math.min(cantidad, rango) - 1)] / 1e6;
+    }
+
+    double maximo() {
+        return cantidad == 0 ? 0 : latencias[cantidad - 1] / 1e6;
+    }
+}
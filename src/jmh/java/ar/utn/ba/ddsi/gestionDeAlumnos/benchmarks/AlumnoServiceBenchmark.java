@@ -0,0 +1,71 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.benchmarks;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepositoryEnMemoria;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.CacheDeProyecciones;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.LecturasCompartidas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// La cache de proyecciones queda deshabilitada para medir siempre la conversión a DTO;
+// con la cache activa estos caminos se reducen a una búsqueda en un mapa.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx3g"})
+public class AlumnoServiceBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int tamanio;
+
+    private AlumnoService alumnoService;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        AlumnosRepository repositorio = new AlumnosRepositoryEnMemoria();
+        PadronDePrueba.poblar(repositorio, tamanio);
+
+        // Solo los colaboradores de los caminos medidos
+        alumnoService = new AlumnoService();
+        ReflectionTestUtils.setField(alumnoService, "alumnosRepository", repositorio);
+        ReflectionTestUtils.setField(alumnoService, "cacheDeProyecciones", new CacheDeProyecciones(0, false));
+        ReflectionTestUtils.setField(alumnoService, "lecturasCompartidas", new LecturasCompartidas());
+    }
+
+    // Un alumno: búsqueda más convertirADTO
+    @Benchmark
+    public Optional<AlumnoDTO> convertirADTO() {
+        return alumnoService.obtenerAlumnoPorLegajo(PadronDePrueba.legajo(ThreadLocalRandom.current().nextInt(tamanio)));
+    }
+
+    // Todo el padrón sin armar la lista: convertirADTO por alumno
+    @Benchmark
+    public void recorrerAlumnos(Blackhole blackhole) {
+        alumnoService.recorrerAlumnos(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<AlumnoDTO> obtenerTodosLosAlumnos() {
+        return alumnoService.obtenerTodosLosAlumnos();
+    }
+}
@@ -0,0 +1,70 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.benchmarks;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepositoryEnMemoria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx3g"})
+public class AlumnosRepositoryBenchmark {
+    // Cantidad de alumnos modificados que se reciclan en el benchmark de save
+    private static final int MODIFICACIONES = 1024;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int tamanio;
+
+    private AlumnosRepository repositorio;
+    private Alumno[] modificaciones;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        repositorio = new AlumnosRepositoryEnMemoria();
+        PadronDePrueba.poblar(repositorio, tamanio);
+
+        modificaciones = new Alumno[Math.min(tamanio, MODIFICACIONES)];
+        for (int i = 0; i < modificaciones.length; i++) {
+            modificaciones[i] = PadronDePrueba.alumno(i);
+            modificaciones[i].setNombre(modificaciones[i].getNombre() + " Modificado");
+        }
+    }
+
+    @Benchmark
+    public Optional<Alumno> findByLegajo() {
+        return repositorio.findByLegajo(PadronDePrueba.legajo(ThreadLocalRandom.current().nextInt(tamanio)));
+    }
+
+    // Reemplazo de un alumno existente: mantiene constante el tamaño del padrón
+    @Benchmark
+    public void save() {
+        repositorio.save(modificaciones[ThreadLocalRandom.current().nextInt(modificaciones.length)]);
+    }
+
+    // La baja se repone enseguida para no vaciar el padrón entre iteraciones;
+    // el costo propio de deleteByLegajo es la diferencia contra save.
+    @Benchmark
+    public void deleteByLegajo() {
+        Alumno alumno = modificaciones[ThreadLocalRandom.current().nextInt(modificaciones.length)];
+        repositorio.deleteByLegajo(alumno.getLegajo());
+        repositorio.save(alumno);
+    }
+}
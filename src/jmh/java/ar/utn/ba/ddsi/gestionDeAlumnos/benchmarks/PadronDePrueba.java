@@ -0,0 +1,67 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.benchmarks;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Datos sintéticos compartidos por los benchmarks: alumnos con un email y un teléfono,
+// con legajos B0000000, B0000001, ... para poder elegirlos al azar sin buscarlos.
+final class PadronDePrueba {
+    private static final String[] NOMBRES = {"Juan", "María", "Carlos", "Ana", "Luis", "Sofía", "Martín", "Lucía"};
+    private static final String[] APELLIDOS = {"Pérez", "González", "Rodríguez", "Martínez", "López", "García", "Fernández", "Díaz"};
+    private static final int TAMANIO_DE_LOTE = 10_000;
+
+    private PadronDePrueba() {
+    }
+
+    static String legajo(int i) {
+        return String.format("B%07d", i);
+    }
+
+    static Alumno alumno(int i) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo(i));
+        alumno.setNombre(NOMBRES[i % NOMBRES.length]);
+        alumno.setApellido(APELLIDOS[(i / NOMBRES.length) % APELLIDOS.length]);
+
+        Contacto email = new Contacto();
+        email.setTipoContacto(TipoContacto.EMAIL);
+        email.setValor("alumno" + i + "@email.com");
+        alumno.agregarContacto(email);
+
+        Contacto telefono = new Contacto();
+        telefono.setTipoContacto(TipoContacto.TELEFONO);
+        telefono.setValor("11" + String.format("%08d", i));
+        alumno.agregarContacto(telefono);
+        return alumno;
+    }
+
+    static AlumnoDTO alumnoDTO(int i) {
+        return AlumnoDTO.builder()
+                .legajo(legajo(i))
+                .nombre(NOMBRES[i % NOMBRES.length])
+                .apellido(APELLIDOS[(i / NOMBRES.length) % APELLIDOS.length])
+                .contactos(List.of(
+                        ContactoDTO.builder().tipoContacto(TipoContacto.EMAIL).valor("alumno" + i + "@email.com").build(),
+                        ContactoDTO.builder().tipoContacto(TipoContacto.TELEFONO).valor("11" + String.format("%08d", i)).build()))
+                .build();
+    }
+
+    static void poblar(AlumnosRepository repositorio, int tamanio) {
+        List<Alumno> lote = new ArrayList<>(Math.min(tamanio, TAMANIO_DE_LOTE));
+        for (int i = 0; i < tamanio; i++) {
+            lote.add(alumno(i));
+            if (lote.size() == TAMANIO_DE_LOTE) {
+                repositorio.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repositorio.saveAll(lote);
+    }
+}
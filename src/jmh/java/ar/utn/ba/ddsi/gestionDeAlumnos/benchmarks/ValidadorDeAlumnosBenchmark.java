@@ -0,0 +1,74 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.benchmarks;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones.ErroresDeValidacion;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones.ValidadorDeAlumnos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// La validación no depende del padrón: el parámetro es la cantidad de alumnos del lote
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx3g"})
+public class ValidadorDeAlumnosBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int tamanio;
+
+    private final ValidadorDeAlumnos validador = new ValidadorDeAlumnos();
+    private AlumnoDTO valido;
+    private AlumnoDTO conContactoInvalido;
+    private List<AlumnoDTO> lote;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        valido = PadronDePrueba.alumnoDTO(0);
+        conContactoInvalido = PadronDePrueba.alumnoDTO(1);
+        conContactoInvalido.setContactos(List.of(
+                ContactoDTO.builder().tipoContacto(TipoContacto.EMAIL).valor("sin-arroba").build()));
+
+        lote = new ArrayList<>(tamanio);
+        for (int i = 0; i < tamanio; i++) {
+            lote.add(i % 10 == 0 ? conContactoInvalido : PadronDePrueba.alumnoDTO(i));
+        }
+    }
+
+    @Benchmark
+    public void validar() {
+        validador.validar(valido);
+    }
+
+    @Benchmark
+    public ValidationException validarConErrores() {
+        try {
+            validador.validar(conContactoInvalido);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public List<ErroresDeValidacion> validarLote() {
+        return validador.validarLote(lote);
+    }
+}
@@ -1,10 +1,14 @@
 package ar.utn.ba.ddsi.gestionDeAlumnos.controllers;
 
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OrdenDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
 import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.EstadisticasService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,13 +23,69 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AlumnoController {
     private final AlumnoService alumnoService;
+    private final EstadisticasService estadisticasService;
 
     @GetMapping
-    public String listarAlumnos(Model model) {
-        List<AlumnoDTO> alumnos = alumnoService.obtenerTodosLosAlumnos();
-        model.addAttribute("alumnos", alumnos);
+    public String listarAlumnos(@RequestParam(required = false) String filtro,
+                                @RequestParam(required = false) String orden,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer tamanio,
+                                @RequestParam(defaultValue = "false") boolean completo,
+                                Model model) {
+        if (completo) {
+            // Las filas se producen mientras Thymeleaf escribe la respuesta; la página vacía
+            // solo conserva el filtro y el orden para el formulario
+            model.addAttribute("alumnos", alumnoService.recorrerListado(filtro, orden));
+            model.addAttribute("pagina", new Pagina<>(List.of(), OrdenDeAlumnos.desde(orden), filtro, 0, null, null));
+        } else {
+            Pagina<AlumnoDTO> pagina = alumnoService.obtenerPaginaDeAlumnos(filtro, orden, cursor, tamanio);
+            model.addAttribute("alumnos", pagina.getElementos());
+            model.addAttribute("pagina", pagina);
+        }
+        model.addAttribute("completo", completo);
         model.addAttribute("titulo", "Listado de alumnos");
-        model.addAttribute("totalDeAlumnos", alumnos.size());
+        model.addAttribute("estadisticas", estadisticasService.obtenerEstadisticasDelPadron(null));
+        model.addAttribute("estadoDelSistema", estadisticasService.obtenerEstadoDelSistema());
+        return "alumnos/lista";
+    }
+
+    @GetMapping(value = "/buscar", produces = "application/json")
+    @ResponseBody
+    public List<AlumnoDTO> buscarAlumnos(@RequestParam("q") String consulta,
+                                         @RequestParam(required = false) Integer limite) {
+        return alumnoService.buscarAlumnos(consulta, limite);
+    }
+
+    // Para la mesa de ayuda: con un único dueño del contacto va directo a su detalle
+    @GetMapping("/por-contacto")
+    public String buscarPorContacto(@RequestParam(required = false) String email,
+                                    @RequestParam(required = false) String telefono,
+                                    Model model,
+                                    RedirectAttributes redirectAttributes) {
+        String contacto = email != null && !email.isBlank() ? email : telefono;
+        List<AlumnoDTO> alumnos;
+        try {
+            alumnos = alumnoService.buscarPorContacto(email, telefono);
+        }
+        catch (ValidationException e) {
+            redirectAttributes.addFlashAttribute("mensaje", e.getMessage());
+            return "redirect:/404";
+        }
+
+        if (alumnos.isEmpty()) {
+            redirectAttributes.addFlashAttribute("mensaje", "Ningún alumno tiene el contacto " + contacto);
+            return "redirect:/404";
+        }
+        if (alumnos.size() == 1) {
+            return "redirect:/alumnos/" + alumnos.get(0).getLegajo();
+        }
+
+        model.addAttribute("alumnos", alumnos);
+        model.addAttribute("pagina", new Pagina<>(alumnos, OrdenDeAlumnos.ALTA, null, alumnos.size(), null, null));
+        model.addAttribute("completo", false);
+        model.addAttribute("titulo", "Alumnos con el contacto " + contacto);
+        model.addAttribute("estadisticas", estadisticasService.obtenerEstadisticasDelPadron(null));
+        model.addAttribute("estadoDelSistema", estadisticasService.obtenerEstadoDelSistema());
         return "alumnos/lista";
     }
 
@@ -36,7 +96,6 @@ public class AlumnoController {
 
             model.addAttribute("alumno", alumno);
             model.addAttribute("titulo", "Detalle del Alumno");
-            model.addAttribute("tieneContactos", !alumno.getContactos().isEmpty());
 
             return "alumnos/detalle";
         }
@@ -87,6 +146,7 @@ public class AlumnoController {
         try {
             AlumnoDTO alumnoDTO = alumnoService.obtenerAlumnoPorLegajo(legajo).get();
             model.addAttribute("alumno", alumnoDTO);
+            model.addAttribute("legajoOriginal", alumnoDTO.getLegajo());
             model.addAttribute("titulo", "Editar Alumno");
             return "alumnos/editar";
         }
@@ -103,8 +163,10 @@ public class AlumnoController {
                                  Model model,
                                  RedirectAttributes redirectAttributes
     ){
+        // Si el formulario vuelve con errores tiene que seguir apuntando al legajo guardado
+        model.addAttribute("legajoOriginal", legajo);
         try {
-            AlumnoDTO alumnoActualizado = alumnoService.actualizarAlumno(legajo, alumnoDTO);
+            AlumnoDTO alumnoActualizado = alumnoService.actualizarAlumno(legajo, alumnoDTO, alumnoDTO.getVersion());
 
             redirectAttributes.addFlashAttribute("mensaje", "Alumno actualizado exitosamente");
             redirectAttributes.addFlashAttribute("tipoMensaje", "success");
@@ -119,6 +181,24 @@ public class AlumnoController {
             model.addAttribute("titulo", "Editar Alumno");
             return "alumnos/editar";
         }
+        catch (ConflictoDeVersionException ex) {
+            // Se conservan los cambios del usuario con la versión actual: guardar de nuevo los confirma
+            try {
+                alumnoService.obtenerAlumnoPorLegajo(legajo).ifPresent(actual -> {
+                    alumnoDTO.setVersion(actual.getVersion());
+                    alumnoDTO.setAlta(actual.getAlta());
+                });
+            }
+            catch (NotFoundException noEncontrado) {
+                // Otra operación lo eliminó después del conflicto
+                redirectAttributes.addFlashAttribute("mensaje", noEncontrado.getMessage());
+                return "redirect:/404";
+            }
+            bindingResult.reject("error.version", "Otra persona modificó este alumno mientras lo editabas. "
+                    + "Revisá los datos y volvé a guardar para confirmar tus cambios.");
+            model.addAttribute("titulo", "Editar Alumno");
+            return "alumnos/editar";
+        }
         catch (ValidationException e) {
             convertirValidationExceptionABindingResult(e, bindingResult);
             model.addAttribute("titulo", "Editar Alumno");
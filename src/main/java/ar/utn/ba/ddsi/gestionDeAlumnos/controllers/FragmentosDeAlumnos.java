@@ -0,0 +1,39 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.CacheDeFragmentos;
+import jakarta.servlet.ServletContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Set;
+
+// Fragmentos por alumno que las páginas incluyen ya renderizados: th:utext="${@fragmentos.fila(alumno)}".
+// Se renderizan fuera del request (el mismo HTML sirve para todos), así que los enlaces no pasan
+// por encodeURL: se arman con el context path de la aplicación.
+@Component("fragmentos")
+@RequiredArgsConstructor
+public class FragmentosDeAlumnos {
+    private static final String TEMPLATE = "alumnos/fragments/alumno";
+
+    private final ITemplateEngine templateEngine;
+    private final CacheDeFragmentos cacheDeFragmentos;
+    private final ServletContext servletContext;
+
+    public String fila(AlumnoDTO alumno) {
+        return cacheDeFragmentos.obtener("fila", alumno, dto -> renderizar("fila", dto));
+    }
+
+    public String contactos(AlumnoDTO alumno) {
+        return cacheDeFragmentos.obtener("contactos", alumno, dto -> renderizar("contactos", dto));
+    }
+
+    private String renderizar(String fragmento, AlumnoDTO alumno) {
+        Context contexto = new Context();
+        contexto.setVariable("alumno", alumno);
+        contexto.setVariable("raiz", servletContext.getContextPath());
+        return templateEngine.process(TEMPLATE, Set.of(fragmento), contexto);
+    }
+}
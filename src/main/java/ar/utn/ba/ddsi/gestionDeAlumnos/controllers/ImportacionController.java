@@ -0,0 +1,91 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion.FormatoDeIntercambio;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion.ImportacionDeAlumnosService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Controller
+@RequestMapping("/alumnos")
+@RequiredArgsConstructor
+public class ImportacionController {
+    private final ImportacionDeAlumnosService importacionService;
+    private final ObjectMapper objectMapper;
+
+    // Recibe CSV o NDJSON en el cuerpo y responde un resultado NDJSON por fila
+    @PostMapping("/importar")
+    public void importarAlumnos(@RequestParam(required = false) String formato,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        FormatoDeIntercambio formatoDeEntrada = FormatoDeIntercambio.desde(formato, request.getContentType());
+        response.setContentType(FormatoDeIntercambio.NDJSON.getTipoDeContenido());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        BufferedReader entrada = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter salida = response.getWriter();
+        try {
+            importacionService.importar(entrada, formatoDeEntrada, resultados -> {
+                for (var resultado : resultados) {
+                    try {
+                        salida.write(objectMapper.writeValueAsString(resultado));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    salida.write('\n');
+                }
+                salida.flush();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarAlumnos(@RequestParam(defaultValue = "csv") String formato) {
+        FormatoDeIntercambio formatoDeSalida = FormatoDeIntercambio.desde(formato, null);
+        StreamingResponseBody cuerpo = salida -> {
+            Writer escritor = new OutputStreamWriter(salida, StandardCharsets.UTF_8);
+            importacionService.exportar(formatoDeSalida, escritor);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoDeSalida.getTipoDeContenido() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"alumnos." + formatoDeSalida.getExtension() + "\"")
+                .body(cuerpo);
+    }
+
+    // Un formato desconocido se rechaza antes de empezar a escribir la respuesta
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ProblemDetail> manejarValidacion(ValidationException ex) {
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        if (ex.hasFieldErrors()) {
+            problema.setProperty("errores", ex.getFieldErrors());
+        }
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_PROBLEM_JSON).body(problema);
+    }
+}
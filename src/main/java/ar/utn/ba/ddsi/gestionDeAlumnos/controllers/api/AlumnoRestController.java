@@ -0,0 +1,149 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AcuseDeEscrituraDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.OperacionDeLoteDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeLoteDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alumnos")
+@RequiredArgsConstructor
+public class AlumnoRestController {
+    // Los clientes pueden guardar la respuesta pero tienen que revalidarla con el ETag
+    private static final CacheControl REVALIDAR = CacheControl.noCache().cachePrivate();
+
+    private final AlumnoService alumnoService;
+
+    @GetMapping
+    public ResponseEntity<Pagina<AlumnoDTO>> listarAlumnos(@RequestParam(required = false) String filtro,
+                                                           @RequestParam(required = false) String orden,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer tamanio,
+                                                           WebRequest request) {
+        Pagina<AlumnoDTO> pagina = alumnoService.obtenerPaginaDeAlumnos(filtro, orden, cursor, tamanio);
+        String etag = EtagsDeAlumnos.dePagina(pagina);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDAR).body(pagina);
+    }
+
+    @GetMapping("/buscar")
+    public List<AlumnoDTO> buscarAlumnos(@RequestParam("q") String consulta,
+                                         @RequestParam(required = false) Integer limite) {
+        return alumnoService.buscarAlumnos(consulta, limite);
+    }
+
+    @GetMapping("/por-contacto")
+    public List<AlumnoDTO> buscarPorContacto(@RequestParam(required = false) String email,
+                                             @RequestParam(required = false) String telefono) {
+        return alumnoService.buscarPorContacto(email, telefono);
+    }
+
+    @GetMapping("/{legajo}")
+    public ResponseEntity<AlumnoDTO> obtenerAlumno(@PathVariable String legajo, WebRequest request) {
+        AlumnoDTO alumno = alumnoService.obtenerAlumnoPorLegajo(legajo).get();
+        String etag = EtagsDeAlumnos.deAlumno(alumno);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDAR).body(alumno);
+    }
+
+    @PostMapping
+    public ResponseEntity<AlumnoDTO> crearAlumno(@RequestBody AlumnoDTO alumnoDTO) {
+        AlumnoDTO alumnoCreado = alumnoService.crearAlumno(alumnoDTO);
+        URI ubicacion = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{legajo}")
+                .buildAndExpand(alumnoCreado.getLegajo())
+                .toUri();
+        return ResponseEntity.created(ubicacion).eTag(EtagsDeAlumnos.deAlumno(alumnoCreado)).body(alumnoCreado);
+    }
+
+    // Con el modo asincrónico activo responde 202 con el acuse apenas la escritura queda encolada;
+    // si no, la preferencia se ignora y se responde como siempre
+    @PostMapping(headers = "Prefer=respond-async")
+    public ResponseEntity<?> encolarCreacion(@RequestBody AlumnoDTO alumnoDTO) {
+        if (!alumnoService.admiteEscriturasAsincronicas()) {
+            return crearAlumno(alumnoDTO);
+        }
+        return aceptada(alumnoService.encolarCreacion(alumnoDTO));
+    }
+
+    // Altas, modificaciones y bajas en un solo pedido; si alguna falla no se aplica ninguna
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoDeLoteDTO> aplicarLote(@RequestBody List<OperacionDeLoteDTO> operaciones) {
+        ResultadoDeLoteDTO resultado = alumnoService.aplicarLote(operaciones);
+        return ResponseEntity.status(resultado.isAplicado() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY).body(resultado);
+    }
+
+    // Con If-Match la modificación solo se aplica si el alumno sigue en esa versión
+    @PutMapping("/{legajo}")
+    public ResponseEntity<AlumnoDTO> actualizarAlumno(@PathVariable String legajo,
+                                                      @RequestBody AlumnoDTO alumnoDTO,
+                                                      @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        alumnoDTO.setAlta(EtagsDeAlumnos.altaDe(ifMatch));
+        AlumnoDTO alumnoActualizado = alumnoService.actualizarAlumno(legajo, alumnoDTO, EtagsDeAlumnos.versionDe(ifMatch));
+        return ResponseEntity.ok().eTag(EtagsDeAlumnos.deAlumno(alumnoActualizado)).body(alumnoActualizado);
+    }
+
+    @PutMapping(value = "/{legajo}", headers = "Prefer=respond-async")
+    public ResponseEntity<?> encolarActualizacion(@PathVariable String legajo,
+                                                  @RequestBody AlumnoDTO alumnoDTO,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        if (!alumnoService.admiteEscriturasAsincronicas()) {
+            return actualizarAlumno(legajo, alumnoDTO, ifMatch);
+        }
+        alumnoDTO.setAlta(EtagsDeAlumnos.altaDe(ifMatch));
+        return aceptada(alumnoService.encolarActualizacion(legajo, alumnoDTO, EtagsDeAlumnos.versionDe(ifMatch)));
+    }
+
+    @DeleteMapping("/{legajo}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void eliminarAlumno(@PathVariable String legajo) {
+        alumnoService.eliminarAlumno(legajo);
+    }
+
+    @GetMapping("/{legajo}/contactos")
+    public ResponseEntity<List<ContactoDTO>> obtenerContactos(@PathVariable String legajo, WebRequest request) {
+        AlumnoDTO alumno = alumnoService.obtenerAlumnoPorLegajo(legajo).get();
+        String etag = EtagsDeAlumnos.deAlumno(alumno);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDAR).body(alumno.getContactos());
+    }
+
+    @PostMapping("/{legajo}/contactos")
+    public ResponseEntity<AlumnoDTO> agregarContacto(@PathVariable String legajo, @RequestBody ContactoDTO contactoDTO) {
+        AlumnoDTO alumno = alumnoService.agregarContacto(legajo, contactoDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EtagsDeAlumnos.deAlumno(alumno)).body(alumno);
+    }
+
+    @DeleteMapping("/{legajo}/contactos/{contactoId}")
+    public ResponseEntity<AlumnoDTO> eliminarContacto(@PathVariable String legajo, @PathVariable Long contactoId) {
+        AlumnoDTO alumno = alumnoService.eliminarContacto(legajo, contactoId);
+        return ResponseEntity.ok().eTag(EtagsDeAlumnos.deAlumno(alumno)).body(alumno);
+    }
+
+    private static ResponseEntity<AcuseDeEscrituraDTO> aceptada(AcuseDeEscrituraDTO acuse) {
+        URI ubicacion = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/escrituras/{secuencia}")
+                .buildAndExpand(acuse.getSecuencia())
+                .toUri();
+        return ResponseEntity.accepted().location(ubicacion).header("Preference-Applied", "respond-async").body(acuse);
+    }
+}
@@ -0,0 +1,25 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AcuseDeEscrituraDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Estado de las escrituras encoladas en modo asincrónico. Con espera (en ms) el pedido queda
+// abierto hasta que la escritura se aplique o se rechace, o hasta que se cumpla el plazo.
+@RestController
+@RequestMapping("/api/escrituras")
+@RequiredArgsConstructor
+public class EscriturasRestController {
+    private final AlumnoService alumnoService;
+
+    @GetMapping("/{secuencia}")
+    public AcuseDeEscrituraDTO consultarEscritura(@PathVariable long secuencia,
+                                                  @RequestParam(required = false) Integer espera) {
+        return alumnoService.consultarEscritura(secuencia, espera);
+    }
+}
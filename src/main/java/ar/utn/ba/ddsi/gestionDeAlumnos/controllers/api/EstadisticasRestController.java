@@ -0,0 +1,40 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDeCacheDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDelPadronDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadoDelSistemaDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.EstadisticasService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/estadisticas")
+@RequiredArgsConstructor
+public class EstadisticasRestController {
+    private final AlumnoService alumnoService;
+    private final EstadisticasService estadisticasService;
+
+    @GetMapping
+    public EstadisticasDelPadronDTO obtenerEstadisticasDelPadron(@RequestParam(required = false) Integer dominios) {
+        return estadisticasService.obtenerEstadisticasDelPadron(dominios);
+    }
+
+    @GetMapping("/sistema")
+    public EstadoDelSistemaDTO obtenerEstadoDelSistema() {
+        return estadisticasService.obtenerEstadoDelSistema();
+    }
+
+    @GetMapping("/cache")
+    public EstadisticasDeCacheDTO obtenerEstadisticasDeCache() {
+        return alumnoService.obtenerEstadisticasDeCache();
+    }
+
+    @GetMapping("/cache/fragmentos")
+    public EstadisticasDeCacheDTO obtenerEstadisticasDeFragmentos() {
+        return alumnoService.obtenerEstadisticasDeFragmentos();
+    }
+}
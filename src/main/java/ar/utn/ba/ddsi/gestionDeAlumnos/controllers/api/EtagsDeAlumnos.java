@@ -0,0 +1,83 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+// Los ETags salen del alta y la versión que el repositorio asigna a cada alumno: la versión
+// vuelve a empezar si el alumno se elimina y se crea de nuevo, el alta no. Las altas del
+// repositorio en memoria se vuelven a numerar al arrancar, así que el ETag también lleva la
+// instancia del proceso. Son débiles porque Tomcat no comprime respuestas con ETags fuertes.
+final class EtagsDeAlumnos {
+    private static final String INSTANCIA = Long.toString(System.currentTimeMillis(), 36);
+
+    private EtagsDeAlumnos() {
+    }
+
+    static String deAlumno(AlumnoDTO alumno) {
+        return "W/\"" + INSTANCIA + "." + alumno.getAlta() + "." + alumno.getVersion() + "\"";
+    }
+
+    // Una página cambia si cambia su composición o el alta o la versión de alguno de sus alumnos
+    static String dePagina(Pagina<AlumnoDTO> pagina) {
+        CRC32 crc = new CRC32();
+        actualizar(crc, pagina.getOrden().name());
+        actualizar(crc, pagina.getFiltro());
+        actualizar(crc, pagina.getCursor());
+        actualizar(crc, pagina.getSiguienteCursor());
+        for (AlumnoDTO alumno : pagina.getElementos()) {
+            actualizar(crc, alumno.getLegajo());
+            actualizar(crc, alumno.getAlta() + "." + alumno.getVersion());
+        }
+        return "W/\"p" + INSTANCIA + "-" + Long.toHexString(crc.getValue()) + "-" + pagina.getElementos().size() + "\"";
+    }
+
+    // null si el If-Match acepta cualquier versión
+    static Long versionDe(String ifMatch) {
+        if (aceptaCualquiera(ifMatch)) {
+            return null;
+        }
+        long[] partes = partesDe(ifMatch);
+        // Un ETag que no es de un alumno de esta instancia nunca coincide
+        return partes == null ? -1L : partes[1];
+    }
+
+    // 0 si el If-Match no exige un alta
+    static long altaDe(String ifMatch) {
+        if (aceptaCualquiera(ifMatch)) {
+            return 0;
+        }
+        long[] partes = partesDe(ifMatch);
+        return partes == null ? 0 : partes[0];
+    }
+
+    private static boolean aceptaCualquiera(String ifMatch) {
+        return ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*");
+    }
+
+    // Alta y versión, o null si no es un ETag de alumno de esta instancia
+    private static long[] partesDe(String ifMatch) {
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        String[] partes = valor.replace("\"", "").split("\\.");
+        if (partes.length != 3 || !partes[0].equals(INSTANCIA)) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(partes[1]), Long.parseLong(partes[2])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void actualizar(CRC32 crc, String valor) {
+        if (valor != null) {
+            crc.update(valor.getBytes(StandardCharsets.UTF_8));
+        }
+        crc.update(0);
+    }
+}
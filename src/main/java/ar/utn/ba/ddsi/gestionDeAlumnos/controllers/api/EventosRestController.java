@@ -0,0 +1,105 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EventoDeAlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.eventos.BusDeEventos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.eventos.Suscripcion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+// Cambios del padrón como Server-Sent Events. El id de cada evento es "<instancia>-<secuencia>":
+// EventSource lo reenvía en Last-Event-ID al reconectarse y el stream sigue desde ahí. Si eso
+// ya no es posible llega un evento "reinicio" y el cliente tiene que volver a leer el padrón.
+@RestController
+@RequestMapping("/api/alumnos/eventos")
+@RequiredArgsConstructor
+public class EventosRestController {
+    // Un comentario cada tanto mantiene viva la conexión y detecta clientes que se fueron
+    private static final Duration LATIDO = Duration.ofSeconds(15);
+
+    private final BusDeEventos busDeEventos;
+
+    // Al vencer, el cliente se reconecta solo y retoma con Last-Event-ID
+    @Value("${alumnos.eventos.duracion-maxima:30m}")
+    private Duration duracionMaxima;
+
+    // "desde" sirve para la primera conexión, cuando EventSource todavía no manda Last-Event-ID
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribirse(@RequestHeader(value = "Last-Event-ID", required = false) String ultimoEvento,
+                                  @RequestParam(required = false) String desde) {
+        String id = ultimoEvento != null ? ultimoEvento : desde;
+        Suscripcion suscripcion = id == null
+                ? busDeEventos.suscribir(null, null)
+                : busDeEventos.suscribir(instanciaDe(id), secuenciaDe(id));
+
+        SseEmitter emitter = new SseEmitter(duracionMaxima.toMillis());
+        // Cada suscriptor vacía su cola en su propio hilo virtual: uno lento no frena a nadie
+        Thread emisor = Thread.ofVirtual().name("eventos-de-alumnos").unstarted(() -> emitir(emitter, suscripcion));
+        Runnable terminar = () -> {
+            suscripcion.cancelar();
+            emisor.interrupt();
+        };
+        emitter.onCompletion(terminar);
+        emitter.onTimeout(terminar);
+        emitter.onError(error -> terminar.run());
+        emisor.start();
+        return emitter;
+    }
+
+    private void emitir(SseEmitter emitter, Suscripcion suscripcion) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(idDe(suscripcion.getSecuenciaInicial()))
+                    .name(suscripcion.requiereReinicio() ? "reinicio" : "conectado")
+                    .data(Map.of("secuencia", suscripcion.getSecuenciaInicial()), MediaType.APPLICATION_JSON));
+            while (suscripcion.isActiva()) {
+                EventoDeAlumnoDTO evento = suscripcion.siguiente(LATIDO);
+                if (evento != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(idDe(evento.getSecuencia()))
+                            .name(evento.getTipo().name().toLowerCase())
+                            .data(evento, MediaType.APPLICATION_JSON));
+                } else if (suscripcion.isActiva()) {
+                    emitter.send(SseEmitter.event().comment("latido"));
+                }
+            }
+            // Desbordada: el cliente no leía al ritmo de los cambios. Se cierra y al reconectarse
+            // recupera lo que falta del historial
+            emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // El cliente cerró la conexión; el contenedor completa el emitter
+        } finally {
+            suscripcion.cancelar();
+        }
+    }
+
+    private String idDe(long secuencia) {
+        return busDeEventos.getInstancia() + "-" + secuencia;
+    }
+
+    private static String instanciaDe(String id) {
+        int separador = id.lastIndexOf('-');
+        return separador < 0 ? null : id.substring(0, separador);
+    }
+
+    // Un id que no se puede interpretar se trata como uno viejo: el cliente recibe un reinicio
+    private static Long secuenciaDe(String id) {
+        try {
+            return Long.parseLong(id.substring(id.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.controllers.api;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.EscriturasSaturadasException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.PersistenciaNoDisponibleException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(basePackageClasses = AlumnoRestController.class)
+public class ManejadorDeErroresApi {
+
+    @ExceptionHandler(NotFoundException.class)
+    public ProblemDetail manejarNoEncontrado(NotFoundException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(DuplicateLegajoException.class)
+    public ProblemDetail manejarLegajoDuplicado(DuplicateLegajoException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(ConflictoDeVersionException.class)
+    public ProblemDetail manejarConflictoDeVersion(ConflictoDeVersionException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    }
+
+    @ExceptionHandler(EscriturasSaturadasException.class)
+    public ResponseEntity<ProblemDetail> manejarEscriturasSaturadas(EscriturasSaturadasException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(PersistenciaNoDisponibleException.class)
+    public ProblemDetail manejarPersistenciaNoDisponible(PersistenciaNoDisponibleException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ProblemDetail manejarValidacion(ValidationException ex) {
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        if (ex.hasFieldErrors()) {
+            problema.setProperty("errores", ex.getFieldErrors());
+        }
+        return problema;
+    }
+}
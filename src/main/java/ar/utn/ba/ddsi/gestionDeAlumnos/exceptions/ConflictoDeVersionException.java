@@ -0,0 +1,13 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.exceptions;
+
+public class ConflictoDeVersionException extends RuntimeException {
+
+    public ConflictoDeVersionException(String legajo, long versionEsperada, long versionActual) {
+        super("El alumno " + legajo + " fue modificado por otra operación (versión esperada "
+                + versionEsperada + ", versión actual " + versionActual + ")", null, false, false);
+    }
+
+    public ConflictoDeVersionException(String legajo) {
+        super("El alumno " + legajo + " fue eliminado y vuelto a crear por otra operación", null, false, false);
+    }
+}
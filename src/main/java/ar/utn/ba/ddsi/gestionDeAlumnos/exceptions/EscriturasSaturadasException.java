@@ -0,0 +1,8 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.exceptions;
+
+public class EscriturasSaturadasException extends RuntimeException {
+
+    public EscriturasSaturadasException(int capacidad) {
+        super("Hay " + capacidad + " escrituras pendientes; reintentá en unos segundos", null, false, false);
+    }
+}
@@ -5,6 +5,6 @@ import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
 public class NotFoundException extends RuntimeException {
 
     public NotFoundException(String entidad, String id) {
-        super("No se ha encontrado " + entidad + " de id " + id);
+        super("No se ha encontrado " + entidad + " de id " + id, null, false, false);
     }
 }
@@ -0,0 +1,8 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.exceptions;
+
+public class PersistenciaNoDisponibleException extends RuntimeException {
+
+    public PersistenciaNoDisponibleException(Throwable causa) {
+        super("No se pudo escribir el log de alumnos: el padrón queda en solo lectura hasta reiniciar", causa);
+    }
+}
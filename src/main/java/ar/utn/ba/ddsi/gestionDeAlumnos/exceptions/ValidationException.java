@@ -3,11 +3,17 @@ package ar.utn.ba.ddsi.gestionDeAlumnos.exceptions;
 import java.util.HashMap;
 import java.util.Map;
 
+// Sin stack trace: es un resultado esperado de la validación y se crea por cada fila inválida
 public class ValidationException extends RuntimeException {
-    private final Map<String, String> fieldErrors = new HashMap<>();
+    private final Map<String, String> fieldErrors;
 
     public ValidationException(String message) {
-        super(message);
+        this(message, new HashMap<>());
+    }
+
+    public ValidationException(String message, Map<String, String> fieldErrors) {
+        super(message, null, false, false);
+        this.fieldErrors = fieldErrors;
     }
 
     public void addFieldError(String field, String error) {
@@ -0,0 +1,33 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.limites;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket de un cliente en su forma GCRA: en lugar de contar fichas guarda el instante (en
+// nanos) en que el balde vuelve a estar lleno. Tomar una ficha corre ese instante un intervalo con
+// un solo compareAndSet; el pedido se rechaza si el balde quedaría más vacío que la ráfaga permitida.
+class Balde {
+    private final AtomicLong llenoEn;
+
+    Balde(long ahora) {
+        this.llenoEn = new AtomicLong(ahora);
+    }
+
+    // Devuelve 0 si tomó la ficha, o cuántos nanos faltan para que haya una
+    long tomar(long ahora, long intervalo, long tolerancia) {
+        while (true) {
+            long actual = llenoEn.get();
+            long siguiente = Math.max(actual, ahora) + intervalo;
+            long espera = siguiente - ahora - tolerancia;
+            if (espera > 0) {
+                return espera;
+            }
+            if (llenoEn.compareAndSet(actual, siguiente)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean estaLleno(long ahora) {
+        return llenoEn.get() <= ahora;
+    }
+}
@@ -0,0 +1,73 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.limites;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Un balde por cliente (la dirección remota; detrás de un proxy hay que configurar
+// server.forward-headers-strategy). Un cliente que agota su ráfaga recibe 429 con Retry-After
+// sin llegar al controller; los demás siguen atendidos normalmente. Con maximoDeClientes baldes
+// en uso los clientes nuevos comparten uno solo hasta que la limpieza periódica libere lugar.
+class LimitadorDePedidos implements HandlerInterceptor {
+    private final long intervalo;
+    private final long tolerancia;
+    private final int maximoDeClientes;
+    private final ConcurrentHashMap<String, Balde> baldes = new ConcurrentHashMap<>();
+    private final Balde compartido = new Balde(System.nanoTime());
+    private final Counter rechazados;
+    private final ScheduledExecutorService limpieza = Executors.newSingleThreadScheduledExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "alumnos-limite");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    LimitadorDePedidos(int pedidosPorSegundo, int rafaga, int maximoDeClientes, MeterRegistry registry) {
+        this.intervalo = TimeUnit.SECONDS.toNanos(1) / pedidosPorSegundo;
+        this.tolerancia = intervalo * rafaga;
+        this.maximoDeClientes = maximoDeClientes;
+        this.rechazados = registry.counter("alumnos.limite.rechazados");
+        // Un balde queda lleno a más tardar una ráfaga después de su último pedido
+        long periodo = Math.max(tolerancia, TimeUnit.SECONDS.toNanos(1));
+        limpieza.scheduleWithFixedDelay(this::descartarLlenos, periodo, periodo, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        long ahora = System.nanoTime();
+        Balde balde = baldes.get(request.getRemoteAddr());
+        if (balde == null) {
+            balde = baldes.size() < maximoDeClientes
+                    ? baldes.computeIfAbsent(request.getRemoteAddr(), cliente -> new Balde(ahora))
+                    : compartido;
+        }
+
+        long espera = balde.tomar(ahora, intervalo, tolerancia);
+        if (espera == 0) {
+            return true;
+        }
+        rechazados.increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(espera - 1) + 1));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Demasiados pedidos, reintentá en unos segundos");
+        return false;
+    }
+
+    void cerrar() {
+        limpieza.shutdownNow();
+    }
+
+    // Un balde lleno es igual a uno nuevo: se puede descartar sin perder nada
+    private void descartarLlenos() {
+        long ahora = System.nanoTime();
+        baldes.values().removeIf(balde -> balde.estaLleno(ahora));
+    }
+}
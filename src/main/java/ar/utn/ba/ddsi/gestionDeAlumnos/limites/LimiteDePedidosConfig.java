@@ -0,0 +1,34 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.limites;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Límite de pedidos por cliente delante de las vistas de alumnos (AlumnoController). Se activa
+// definiendo alumnos.limite.pedidos-por-segundo; los rechazos se cuentan en alumnos.limite.rechazados.
+@Configuration
+@ConditionalOnProperty(name = "alumnos.limite.pedidos-por-segundo")
+public class LimiteDePedidosConfig implements WebMvcConfigurer {
+    private final LimitadorDePedidos limitador;
+
+    public LimiteDePedidosConfig(@Value("${alumnos.limite.pedidos-por-segundo}") int pedidosPorSegundo,
+                                 @Value("${alumnos.limite.rafaga:20}") int rafaga,
+                                 @Value("${alumnos.limite.maximo-de-clientes:10000}") int maximoDeClientes,
+                                 MeterRegistry registry) {
+        this.limitador = new LimitadorDePedidos(pedidosPorSegundo, rafaga, maximoDeClientes, registry);
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        limitador.cerrar();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(limitador).addPathPatterns("/alumnos", "/alumnos/**");
+    }
+}
@@ -0,0 +1,41 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.metricas;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// Cuenta los resultados de negocio que terminan en excepción: alumnos.errores{excepcion, operacion}.
+// Se cuentan al salir de AlumnoService, así valen igual para las vistas y para la API.
+@Aspect
+@Component
+public class ContadorDeErrores {
+    private static final Set<Class<? extends RuntimeException>> EXCEPCIONES = Set.of(
+            NotFoundException.class,
+            DuplicateLegajoException.class,
+            ValidationException.class,
+            ConflictoDeVersionException.class
+    );
+
+    private final MeterRegistry registry;
+
+    public ContadorDeErrores(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @AfterThrowing(pointcut = "within(ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService)", throwing = "error")
+    public void contar(JoinPoint joinPoint, RuntimeException error) {
+        if (EXCEPCIONES.contains(error.getClass())) {
+            registry.counter("alumnos.errores",
+                    "excepcion", error.getClass().getSimpleName(),
+                    "operacion", joinPoint.getSignature().getName()).increment();
+        }
+    }
+}
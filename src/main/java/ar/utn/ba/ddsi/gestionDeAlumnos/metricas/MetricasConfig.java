@@ -0,0 +1,17 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.metricas;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Habilita @Timed en servicios y repositorios. La latencia por endpoint la registra
+// Spring Boot en http.server.requests; todo se publica en /actuator/prometheus.
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.metricas;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.LecturasCompartidas;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// alumnos.lecturas{resultado}: lecturas de AlumnoService ejecutadas y las que se resolvieron
+// esperando una lectura idéntica que ya estaba en curso
+@Component
+public class MetricasDeLecturas {
+
+    public MetricasDeLecturas(LecturasCompartidas lecturasCompartidas, MeterRegistry registry) {
+        FunctionCounter.builder("alumnos.lecturas", lecturasCompartidas, LecturasCompartidas::getEjecutadas)
+                .tag("resultado", "ejecutada")
+                .register(registry);
+        FunctionCounter.builder("alumnos.lecturas", lecturasCompartidas, LecturasCompartidas::getCompartidas)
+                .tag("resultado", "compartida")
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.metricas;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.estadisticas.ContadoresDelPadron;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// Gauges del padrón: alumnos.padron.tamanio, alumnos.sin.contactos y alumnos.contactos{tipo}.
+// Leen los contadores que se mantienen con cada cambio, así el scrape no recorre el padrón.
+@Component
+public class MetricasDelPadron {
+
+    public MetricasDelPadron(ContadoresDelPadron contadoresDelPadron, MeterRegistry registry) {
+        Gauge.builder("alumnos.padron.tamanio", contadoresDelPadron, ContadoresDelPadron::getAlumnos)
+                .register(registry);
+        Gauge.builder("alumnos.sin.contactos", contadoresDelPadron, ContadoresDelPadron::getAlumnosSinContactos)
+                .register(registry);
+        for (TipoContacto tipo : TipoContacto.values()) {
+            Gauge.builder("alumnos.contactos", contadoresDelPadron, contadores -> contadores.getContactos(tipo))
+                    .tag("tipo", tipo.name())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AcuseDeEscrituraDTO {
+    // Se consulta en /api/escrituras/{secuencia}; vuelve a empezar con cada arranque
+    private long secuencia;
+    private String legajo;
+    private Estado estado;
+    private String mensaje;
+    // Estado del alumno después de aplicar la escritura
+    private AlumnoDTO alumno;
+
+    public enum Estado {
+        PENDIENTE,
+        APLICADA,
+        RECHAZADA
+    }
+}
@@ -1,5 +1,6 @@
 package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,4 +19,8 @@ public class AlumnoDTO {
     private String apellido;
     private String nombreCompleto;
     private List<ContactoDTO> contactos = new ArrayList<>();
+    private Long version;
+    // Viaja en el ETag y en el formulario de edición, no en el JSON
+    @JsonIgnore
+    private long alta;
 }
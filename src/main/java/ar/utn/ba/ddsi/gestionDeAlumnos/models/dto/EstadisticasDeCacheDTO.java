@@ -0,0 +1,20 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasDeCacheDTO {
+    private long capacidad;
+    private long tamanio;
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long invalidaciones;
+    private double tasaDeAciertos;
+}
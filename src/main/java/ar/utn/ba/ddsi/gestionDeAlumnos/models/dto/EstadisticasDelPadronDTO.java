@@ -0,0 +1,22 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasDelPadronDTO {
+    private long totalDeAlumnos;
+    private long alumnosSinContactos;
+    private Map<TipoContacto, Long> contactosPorTipo;
+    // Dominios con más emails primero
+    private Map<String, Long> dominiosDeEmail;
+    private long otrosDominios;
+}
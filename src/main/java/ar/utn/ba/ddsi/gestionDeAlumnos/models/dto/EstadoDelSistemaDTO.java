@@ -0,0 +1,18 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoDelSistemaDTO {
+    private String estado;
+    private boolean activo;
+    private long solicitudes;
+    private double latenciaMediaMs;
+    private double latenciaMaximaMs;
+}
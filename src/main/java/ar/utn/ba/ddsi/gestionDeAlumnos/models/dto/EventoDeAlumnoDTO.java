@@ -0,0 +1,31 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventoDeAlumnoDTO {
+    private long secuencia;
+    private Tipo tipo;
+    private String legajo;
+    // Solo en las actualizaciones que cambiaron el legajo
+    private String legajoAnterior;
+    // Estado del alumno después del cambio; no viene en las eliminaciones
+    private AlumnoDTO alumno;
+    private Instant instante;
+
+    public enum Tipo {
+        CREADO,
+        ACTUALIZADO,
+        ELIMINADO
+    }
+}
@@ -0,0 +1,25 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperacionDeLoteDTO {
+    private Tipo tipo;
+    // Legajo actual del alumno a actualizar o eliminar; en las altas se usa el del alumno
+    private String legajo;
+    // Versión esperada (opcional) para actualizar o eliminar
+    private Long version;
+    private AlumnoDTO alumno;
+
+    public enum Tipo {
+        CREAR,
+        ACTUALIZAR,
+        ELIMINAR
+    }
+}
@@ -0,0 +1,27 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoDeImportacionDTO {
+    private int fila;
+    private String legajo;
+    private Estado estado;
+    private String mensaje;
+    private Map<String, String> errores;
+
+    public enum Estado {
+        CREADO,
+        RECHAZADO
+    }
+}
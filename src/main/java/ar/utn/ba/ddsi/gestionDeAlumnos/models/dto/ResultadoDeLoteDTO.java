@@ -0,0 +1,18 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoDeLoteDTO {
+    // El lote se aplica completo o no se aplica
+    private boolean aplicado;
+    private List<ResultadoDeOperacionDTO> resultados;
+}
@@ -0,0 +1,32 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoDeOperacionDTO {
+    private int indice;
+    private OperacionDeLoteDTO.Tipo tipo;
+    private String legajo;
+    private Estado estado;
+    private String mensaje;
+    private Map<String, String> errores;
+    // Estado del alumno después de aplicar el lote; no viene en las eliminaciones
+    private AlumnoDTO alumno;
+
+    public enum Estado {
+        APLICADO,
+        RECHAZADO,
+        // La operación era válida pero otra del mismo lote no
+        CANCELADO
+    }
+}
@@ -13,9 +13,19 @@ public class Alumno {
     private String nombre;
     private String apellido;
     private List<Contacto> contactos;
+    // La asigna el repositorio: 1 al crearse y se incrementa en cada modificación
+    private long version;
+    // También la asigna el repositorio, al crearlo, y no cambia con las modificaciones: distingue
+    // al alumno de otro que tuvo antes el mismo legajo. Al modificarlo, si no es 0, es la que se
+    // espera encontrar.
+    private long alta;
 
     public Alumno() {
-        this.contactos = new ArrayList<>();
+        this(new ArrayList<>());
+    }
+
+    protected Alumno(List<Contacto> contactos) {
+        this.contactos = contactos;
     }
 
     public void agregarContacto(Contacto contacto) {
@@ -23,6 +33,6 @@ public class Alumno {
     }
 
     public String getNombreCompleto() {
-        return this.nombre + " " + this.apellido;
+        return getNombre() + " " + getApellido();
     }
 }
@@ -6,7 +6,8 @@ import lombok.Setter;
 @Setter
 @Getter
 public class Contacto {
-    private Long id;
+    // 0 mientras el repositorio no le asigna uno
+    private long id;
     private TipoContacto tipoContacto;
     private String valor;
 }
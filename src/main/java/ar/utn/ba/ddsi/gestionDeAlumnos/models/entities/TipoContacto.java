@@ -1,6 +1,16 @@
 package ar.utn.ba.ddsi.gestionDeAlumnos.models.entities;
 
+import lombok.Getter;
+
+@Getter
 public enum TipoContacto {
-    EMAIL,
-    TELEFONO,
+    EMAIL("Email"),
+    TELEFONO("Teléfono");
+
+    // Etiqueta para mostrar; la comparten todas las proyecciones en lugar de armar una por contacto
+    private final String descripcion;
+
+    TipoContacto(String descripcion) {
+        this.descripcion = descripcion;
+    }
 }
@@ -0,0 +1,93 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+
+import java.util.List;
+
+// Padrón con el que arranca un repositorio vacío. Los ids de contacto los asigna el repositorio al guardar.
+public final class AlumnosDeEjemplo {
+
+    private AlumnosDeEjemplo() {
+    }
+
+    public static List<Alumno> crear() {
+        // Alumno 1: Juan Pérez
+        Alumno alumno1 = new Alumno();
+        alumno1.setLegajo("A001");
+        alumno1.setNombre("Juan");
+        alumno1.setApellido("Pérez");
+
+        Contacto contacto1_1 = new Contacto();
+        contacto1_1.setTipoContacto(TipoContacto.EMAIL);
+        contacto1_1.setValor("juan.perez@email.com");
+        alumno1.agregarContacto(contacto1_1);
+
+        Contacto contacto1_2 = new Contacto();
+        contacto1_2.setTipoContacto(TipoContacto.TELEFONO);
+        contacto1_2.setValor("+54 11 1234-5678");
+        alumno1.agregarContacto(contacto1_2);
+
+        // Alumno 2: María González
+        Alumno alumno2 = new Alumno();
+        alumno2.setLegajo("A002");
+        alumno2.setNombre("María");
+        alumno2.setApellido("González");
+
+        Contacto contacto2_1 = new Contacto();
+        contacto2_1.setTipoContacto(TipoContacto.EMAIL);
+        contacto2_1.setValor("maria.gonzalez@email.com");
+        alumno2.agregarContacto(contacto2_1);
+
+        Contacto contacto2_2 = new Contacto();
+        contacto2_2.setTipoContacto(TipoContacto.TELEFONO);
+        contacto2_2.setValor("+54 11 2345-6789");
+        alumno2.agregarContacto(contacto2_2);
+
+        // Alumno 3: Carlos Rodríguez
+        Alumno alumno3 = new Alumno();
+        alumno3.setLegajo("A003");
+        alumno3.setNombre("Carlos");
+        alumno3.setApellido("Rodríguez");
+
+        Contacto contacto3_1 = new Contacto();
+        contacto3_1.setTipoContacto(TipoContacto.EMAIL);
+        contacto3_1.setValor("carlos.rodriguez@email.com");
+        alumno3.agregarContacto(contacto3_1);
+
+        // Alumno 4: Ana López
+        Alumno alumno4 = new Alumno();
+        alumno4.setLegajo("A004");
+        alumno4.setNombre("Ana");
+        alumno4.setApellido("López");
+
+        Contacto contacto4_1 = new Contacto();
+        contacto4_1.setTipoContacto(TipoContacto.EMAIL);
+        contacto4_1.setValor("ana.lopez@email.com");
+        alumno4.agregarContacto(contacto4_1);
+
+        Contacto contacto4_2 = new Contacto();
+        contacto4_2.setTipoContacto(TipoContacto.TELEFONO);
+        contacto4_2.setValor("+54 11 4567-8901");
+        alumno4.agregarContacto(contacto4_2);
+
+        // Alumno 5: Diego Martínez
+        Alumno alumno5 = new Alumno();
+        alumno5.setLegajo("A005");
+        alumno5.setNombre("Diego");
+        alumno5.setApellido("Martínez");
+
+        Contacto contacto5_1 = new Contacto();
+        contacto5_1.setTipoContacto(TipoContacto.EMAIL);
+        contacto5_1.setValor("diego.martinez@email.com");
+        alumno5.agregarContacto(contacto5_1);
+
+        Contacto contacto5_2 = new Contacto();
+        contacto5_2.setTipoContacto(TipoContacto.TELEFONO);
+        contacto5_2.setValor("+54 11 5678-9012");
+        alumno5.agregarContacto(contacto5_2);
+
+        return List.of(alumno1, alumno2, alumno3, alumno4, alumno5);
+    }
+}
@@ -0,0 +1,670 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.contactos.ContactosCompactos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.contactos.PoolDeContactos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices.NormalizadorDeTexto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia.AlumnoMapeado;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia.PadronMapeado;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia.PersistenciaDeAlumnos;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.SIN_CONDICION;
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.SI_NO_EXISTE;
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.conVersion;
+
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "alumnos.repositorio.modo", havingValue = "memoria", matchIfMissing = true)
+public class AlumnosRepositoryEnMemoria implements AlumnosRepository {
+    // Índice primario por legajo normalizado
+    private final ConcurrentHashMap<String, Registro> alumnos = new ConcurrentHashMap<>();
+    // Índices ordenados para el listado paginado; el de alta respeta el orden en que se cargaron
+    private final Map<OrdenDeAlumnos, ConcurrentSkipListMap<String, Alumno>> indicesDeOrden = new EnumMap<>(OrdenDeAlumnos.class);
+    private final AtomicLong nextSecuencia = new AtomicLong(1L);
+    private final AtomicLong nextContactoId = new AtomicLong(1L);
+    // Cambia con cada alta, modificación o baja; sirve para saber si una vista derivada sigue vigente
+    private final AtomicLong versionDelPadron = new AtomicLong();
+    // El tamaño del índice primario contaría también las reservas de renombramientos y lotes
+    private final AtomicLong cantidadDeAlumnos = new AtomicLong();
+    private final List<ObservadorDeAlumnos> observadores = new CopyOnWriteArrayList<>();
+    private final PersistenciaDeAlumnos persistencia;
+    // Solo en el modo compacto de contactos
+    private final PoolDeContactos poolDeContactos;
+
+    // Ocupa el legajo nuevo mientras dura un renombramiento
+    private static final Registro RESERVA = new Registro(-1, null);
+    private static final LegajoOcupado OCUPADO = new LegajoOcupado();
+
+    public AlumnosRepositoryEnMemoria() {
+        this(Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Autowired
+    public AlumnosRepositoryEnMemoria(Optional<PersistenciaDeAlumnos> persistencia, Optional<PadronMapeado> padron,
+                             Optional<PoolDeContactos> poolDeContactos) {
+        this.persistencia = persistencia.orElse(null);
+        this.poolDeContactos = poolDeContactos.orElse(null);
+        for (OrdenDeAlumnos orden : OrdenDeAlumnos.values()) {
+            indicesDeOrden.put(orden, new ConcurrentSkipListMap<>());
+        }
+
+        // El padrón mapeado es la base y el log durable se reproduce por encima. Un snapshot ya
+        // tiene el estado completo (incluidas las bajas y los renombramientos de alumnos del
+        // padrón), así que si hay uno el padrón no se carga: si no, volverían los eliminados.
+        boolean hayBaseDurable = this.persistencia != null && this.persistencia.tieneSnapshot();
+        padron.filter(mapeado -> !hayBaseDurable).ifPresent(mapeado -> {
+            mapeado.recorrer(alumno -> guardar(alumno, false));
+            nextContactoId.accumulateAndGet(mapeado.getMaximoIdDeContacto() + 1, Math::max);
+        });
+        boolean recuperado = this.persistencia != null && this.persistencia.recuperar(
+                alumno -> {
+                    guardar(alumno, false);
+                    alumno.getContactos().forEach(contacto ->
+                            nextContactoId.accumulateAndGet(contacto.getId() + 1, Math::max));
+                },
+                legajo -> eliminar(legajo, false),
+                this::reproducirRenombramiento);
+        recuperado = recuperado || padron.isPresent();
+        if (this.persistencia != null) {
+            this.persistencia.iniciar(this::findAll);
+        }
+        if (!recuperado) {
+            AlumnosDeEjemplo.crear().forEach(this::save);
+        }
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public List<Alumno> findAll() {
+        return new ArrayList<>(this.indicesDeOrden.get(OrdenDeAlumnos.ALTA).values());
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Pagina<Alumno> findPage(String filtro, OrdenDeAlumnos orden, String cursor, int tamanio) {
+        ConcurrentSkipListMap<String, Alumno> indice = indicesDeOrden.get(orden);
+        String desde = decodificarCursor(cursor);
+        Map<String, Alumno> vista = desde == null ? indice : indice.tailMap(desde, false);
+        String filtroNormalizado = filtro == null || filtro.isBlank() ? null : NormalizadorDeTexto.normalizar(filtro);
+
+        List<Alumno> elementos = new ArrayList<>(tamanio);
+        String ultimaClave = null;
+        boolean hayMas = false;
+        for (Map.Entry<String, Alumno> entrada : vista.entrySet()) {
+            if (!coincide(entrada.getValue(), filtroNormalizado)) {
+                continue;
+            }
+            if (elementos.size() == tamanio) {
+                hayMas = true;
+                break;
+            }
+            elementos.add(entrada.getValue());
+            ultimaClave = entrada.getKey();
+        }
+
+        String siguienteCursor = hayMas ? codificarCursor(ultimaClave) : null;
+        return new Pagina<>(elementos, orden, filtro, tamanio, desde == null ? null : cursor, siguienteCursor);
+    }
+
+    @Override
+    public Secuencia<Alumno> findAll(String filtro, OrdenDeAlumnos orden) {
+        ConcurrentSkipListMap<String, Alumno> indice = indicesDeOrden.get(orden);
+        String filtroNormalizado = filtro == null || filtro.isBlank() ? null : NormalizadorDeTexto.normalizar(filtro);
+        return new Secuencia<>(() -> indice.values().stream().filter(alumno -> coincide(alumno, filtroNormalizado)));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Optional<Alumno> findByLegajo(String legajo) {
+        Registro registro = alumnos.get(normalizarLegajo(legajo));
+        return registro == null || registro.esReserva() ? Optional.empty() : Optional.of(registro.alumno);
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public boolean existsByLegajo(String legajo) {
+        Registro registro = alumnos.get(normalizarLegajo(legajo));
+        return registro != null && !registro.esReserva();
+    }
+
+    @Override
+    public long count() {
+        return cantidadDeAlumnos.get();
+    }
+
+    @Override
+    public long getVersionDelPadron() {
+        return versionDelPadron.get();
+    }
+
+    @Override
+    public void forEach(Consumer<Alumno> consumidor) {
+        this.indicesDeOrden.get(OrdenDeAlumnos.ALTA).values().forEach(consumidor);
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void save(Alumno alumno) {
+        verificarPersistencia();
+        asignarIdsDeContactos(alumno);
+        esperarConfirmacion(conReintentos(() -> guardar(alumno, true, SIN_CONDICION)));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void insert(Alumno alumno) {
+        verificarPersistencia();
+        asignarIdsDeContactos(alumno);
+        esperarConfirmacion(conReintentos(() -> guardar(alumno, true, SI_NO_EXISTE)));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void update(String legajo, Alumno alumno, Long versionEsperada) {
+        verificarPersistencia();
+        asignarIdsDeContactos(alumno);
+        Condicion condicion = conVersion(alumno.getAlta(), versionEsperada);
+        boolean renombra = !normalizarLegajo(legajo).equals(normalizarLegajo(alumno.getLegajo()));
+        esperarConfirmacion(conReintentos(() -> renombra
+                ? renombrar(legajo, alumno, condicion, true)
+                : guardar(alumno, true, condicion)));
+    }
+
+    // En modo durable todo el lote se confirma con una sola espera
+    @Override
+    @Timed("alumnos.repositorio")
+    public void saveAll(Collection<Alumno> alumnosAGuardar) {
+        verificarPersistencia();
+        List<CompletableFuture<Void>> confirmaciones = new ArrayList<>();
+        for (Alumno alumno : alumnosAGuardar) {
+            asignarIdsDeContactos(alumno);
+            CompletableFuture<Void> confirmacion = conReintentos(() -> guardar(alumno, true, SIN_CONDICION));
+            if (confirmacion != null) {
+                confirmaciones.add(confirmacion);
+            }
+        }
+        if (!confirmaciones.isEmpty()) {
+            esperarConfirmacion(CompletableFuture.allOf(confirmaciones.toArray(CompletableFuture[]::new)));
+        }
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void deleteByLegajo(String legajo) {
+        verificarPersistencia();
+        esperarConfirmacion(conReintentos(() -> eliminar(legajo, true)));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Map<Integer, RuntimeException> aplicarLote(List<OperacionDeLote> operaciones) {
+        verificarPersistencia();
+        // Se bloquean en orden para que dos lotes concurrentes no se esperen mutuamente
+        TreeSet<String> claves = new TreeSet<>();
+        int legajosDelLote = 0;
+        for (OperacionDeLote operacion : operaciones) {
+            claves.add(normalizarLegajo(operacion.getLegajo()));
+            legajosDelLote++;
+            if (renombra(operacion)) {
+                claves.add(normalizarLegajo(operacion.getAlumno().getLegajo()));
+                legajosDelLote++;
+            }
+        }
+        if (claves.size() != legajosDelLote) {
+            throw new IllegalArgumentException("Un legajo aparece en más de una operación del lote");
+        }
+
+        Map<String, Registro> bloqueados = new HashMap<>();
+        CompletableFuture<Void> confirmacion = null;
+        boolean aplicado = false;
+        try {
+            for (String clave : claves) {
+                bloqueados.put(clave, bloquear(clave));
+            }
+            Map<Integer, RuntimeException> errores = verificarLote(operaciones, bloqueados);
+            if (!errores.isEmpty()) {
+                return errores;
+            }
+            confirmacion = aplicarBloqueados(operaciones, bloqueados);
+            aplicado = true;
+        } finally {
+            if (!aplicado) {
+                liberar(bloqueados);
+            }
+        }
+        esperarConfirmacion(confirmacion);
+        return Map.of();
+    }
+
+    private void asignarIdsDeContactos(Alumno alumno) {
+        // Asignar IDs a los contactos si no los tienen
+        if (alumno.getContactos() != null) {
+            alumno.getContactos().forEach(contacto -> {
+                if (contacto.getId() == 0) {
+                    contacto.setId(nextContactoId.getAndIncrement());
+                }
+            });
+        }
+    }
+
+    // Con los ids ya asignados; los alumnos del padrón mapeado ya viven fuera del heap
+    private void compactarContactos(Alumno alumno) {
+        if (poolDeContactos != null && !(alumno instanceof AlumnoMapeado)) {
+            alumno.setContactos(ContactosCompactos.compactar(alumno.getContactos(), poolDeContactos));
+        }
+    }
+
+    // Dentro de compute solo hay trabajo en memoria y se encola la entrada del log; la espera
+    // del fsync queda afuera, así un hilo virtual nunca se bloquea reteniendo el lock del bin
+    private CompletableFuture<Void> guardar(Alumno alumno, boolean registrar) {
+        return guardar(alumno, registrar, SIN_CONDICION);
+    }
+
+    private CompletableFuture<Void> guardar(Alumno alumno, boolean registrar, Condicion condicion) {
+        compactarContactos(alumno);
+        List<CompletableFuture<Void>> confirmacion = new ArrayList<>(1);
+        alumnos.compute(normalizarLegajo(alumno.getLegajo()), (legajo, existente) -> {
+            if (existente != null && !existente.admiteEscrituras()) {
+                throw OCUPADO;
+            }
+            condicion.verificar(legajo, existente == null ? null : existente.alumno);
+            // Si el alumno ya existe, se reemplaza conservando su posición en el listado
+            long secuencia;
+            if (existente != null) {
+                secuencia = existente.secuencia;
+                quitarDeIndices(existente);
+            } else {
+                secuencia = nextSecuencia.getAndIncrement();
+                cantidadDeAlumnos.incrementAndGet();
+            }
+            // Al recuperar desde disco la versión ya viene con el alumno
+            if (registrar) {
+                alumno.setVersion(existente == null ? 1 : existente.alumno.getVersion() + 1);
+            }
+            alumno.setAlta(secuencia);
+            Registro registro = new Registro(secuencia, alumno);
+            agregarAIndices(registro);
+            versionDelPadron.incrementAndGet();
+            observadores.forEach(observador -> observador.alGuardar(existente == null ? null : existente.alumno, alumno));
+            // Se registra dentro del compute para que el log respete el orden de escrituras de cada legajo
+            if (registrar && persistencia != null) {
+                confirmacion.add(persistencia.registrarGuardado(alumno));
+            }
+            return registro;
+        });
+        return confirmacion.isEmpty() ? null : confirmacion.get(0);
+    }
+
+    private CompletableFuture<Void> eliminar(String legajo, boolean registrar) {
+        List<CompletableFuture<Void>> confirmacion = new ArrayList<>(1);
+        alumnos.computeIfPresent(normalizarLegajo(legajo), (clave, existente) -> {
+            if (!existente.admiteEscrituras()) {
+                throw OCUPADO;
+            }
+            quitarDeIndices(existente);
+            versionDelPadron.incrementAndGet();
+            cantidadDeAlumnos.decrementAndGet();
+            observadores.forEach(observador -> observador.alEliminar(existente.alumno));
+            if (registrar && persistencia != null) {
+                confirmacion.add(persistencia.registrarEliminacion(clave));
+            }
+            return null;
+        });
+        return confirmacion.isEmpty() ? null : confirmacion.get(0);
+    }
+
+    // El renombramiento no toma ningún lock global: primero reserva el legajo nuevo, después
+    // marca el registro anterior como en movimiento (verificando la condición) y recién ahí
+    // publica el alumno bajo el legajo nuevo y quita el anterior. Mientras dura, las escrituras
+    // sobre cualquiera de los dos legajos esperan y las lecturas siguen viendo al anterior.
+    private CompletableFuture<Void> renombrar(String legajoAnterior, Alumno alumno, Condicion condicion, boolean registrar) {
+        String anterior = normalizarLegajo(legajoAnterior);
+        String nuevo = normalizarLegajo(alumno.getLegajo());
+        compactarContactos(alumno);
+        Registro ocupante = alumnos.putIfAbsent(nuevo, RESERVA);
+        if (ocupante != null) {
+            // Una reserva o un legajo en movimiento se liberan enseguida: no es un duplicado todavía
+            throw ocupante.admiteEscrituras() ? new DuplicateLegajoException(nuevo) : OCUPADO;
+        }
+
+        Registro[] movido = new Registro[1];
+        try {
+            alumnos.compute(anterior, (clave, existente) -> {
+                if (existente != null && !existente.admiteEscrituras()) {
+                    throw OCUPADO;
+                }
+                condicion.verificar(clave, existente == null ? null : existente.alumno);
+                if (existente == null) {
+                    throw new NotFoundException("Alumno", clave);
+                }
+                if (registrar) {
+                    alumno.setVersion(existente.alumno.getVersion() + 1);
+                }
+                alumno.setAlta(existente.secuencia);
+                movido[0] = existente;
+                return new Registro(existente.secuencia, existente.alumno, true);
+            });
+        } catch (RuntimeException e) {
+            alumnos.remove(nuevo, RESERVA);
+            throw e;
+        }
+
+        Registro existente = movido[0];
+        Registro registro = new Registro(existente.secuencia, alumno, false);
+        List<CompletableFuture<Void>> confirmacion = new ArrayList<>(1);
+        alumnos.compute(nuevo, (clave, reserva) -> {
+            quitarDeIndices(existente);
+            agregarAIndices(registro);
+            versionDelPadron.incrementAndGet();
+            observadores.forEach(observador -> observador.alGuardar(existente.alumno, alumno));
+            // Una sola entrada de log: al recuperar no puede quedar aplicado solo a medias
+            if (registrar && persistencia != null) {
+                confirmacion.add(persistencia.registrarRenombramiento(anterior, alumno));
+            }
+            return registro;
+        });
+        alumnos.remove(anterior);
+        return confirmacion.isEmpty() ? null : confirmacion.get(0);
+    }
+
+    // Toma el legajo para un lote como si fuera a renombrarse: los existentes quedan en
+    // movimiento (se siguen leyendo) y los libres reservados. Devuelve el registro anterior.
+    private Registro bloquear(String clave) {
+        return conReintentos(() -> {
+            Registro[] anterior = new Registro[1];
+            alumnos.compute(clave, (legajo, existente) -> {
+                if (existente != null && !existente.admiteEscrituras()) {
+                    throw OCUPADO;
+                }
+                anterior[0] = existente;
+                return existente == null ? RESERVA : new Registro(existente.secuencia, existente.alumno, true);
+            });
+            return anterior[0];
+        });
+    }
+
+    private void liberar(Map<String, Registro> bloqueados) {
+        bloqueados.forEach((clave, anterior) -> {
+            if (anterior == null) {
+                alumnos.remove(clave);
+            } else {
+                alumnos.put(clave, anterior);
+            }
+        });
+    }
+
+    private Map<Integer, RuntimeException> verificarLote(List<OperacionDeLote> operaciones, Map<String, Registro> bloqueados) {
+        Map<Integer, RuntimeException> errores = new TreeMap<>();
+        for (int i = 0; i < operaciones.size(); i++) {
+            OperacionDeLote operacion = operaciones.get(i);
+            String clave = normalizarLegajo(operacion.getLegajo());
+            Registro actual = bloqueados.get(clave);
+            try {
+                if (operacion.getTipo() == OperacionDeLote.Tipo.ALTA) {
+                    SI_NO_EXISTE.verificar(clave, actual == null ? null : actual.alumno);
+                } else {
+                    long altaEsperada = operacion.getAlumno() == null ? 0 : operacion.getAlumno().getAlta();
+                    conVersion(altaEsperada, operacion.getVersionEsperada()).verificar(clave, actual == null ? null : actual.alumno);
+                    if (renombra(operacion)) {
+                        String nuevo = normalizarLegajo(operacion.getAlumno().getLegajo());
+                        Registro ocupante = bloqueados.get(nuevo);
+                        SI_NO_EXISTE.verificar(nuevo, ocupante == null ? null : ocupante.alumno);
+                    }
+                }
+            } catch (RuntimeException e) {
+                errores.put(i, e);
+            }
+        }
+        return errores;
+    }
+
+    // Con todos los legajos del lote bloqueados ninguna otra escritura puede intercalarse. Primero se
+    // prepara todo lo que puede fallar (contactos, versiones, la entrada del log) sin tocar nada
+    // compartido: si algo falla, aplicarLote libera los legajos y el lote no deja rastro. Después,
+    // como en guardar, se aplica a los índices, se encola la entrada del log y recién al final se
+    // liberan los legajos: un snapshot que rote el log después de la entrada ya ve el lote. Los
+    // observadores se enteran con el lote ya aplicado y antes de liberar, así ninguna escritura
+    // posterior sobre esos legajos les llega antes; si uno falla el lote no se deshace.
+    private CompletableFuture<Void> aplicarBloqueados(List<OperacionDeLote> operaciones, Map<String, Registro> bloqueados) {
+        List<Alumno> guardados = new ArrayList<>();
+        List<String> eliminados = new ArrayList<>();
+        Map<String, Alumno> renombrados = new LinkedHashMap<>();
+        List<Cambio> cambios = new ArrayList<>(operaciones.size());
+        // Lo que queda en el índice primario al liberar cada legajo; null lo quita
+        Map<String, Registro> finales = new HashMap<>();
+        for (OperacionDeLote operacion : operaciones) {
+            String clave = normalizarLegajo(operacion.getLegajo());
+            Registro existente = bloqueados.get(clave);
+            Alumno alumno = operacion.getAlumno();
+            if (alumno == null) {
+                eliminados.add(clave);
+                finales.put(clave, null);
+                cambios.add(new Cambio(existente, null));
+                continue;
+            }
+            asignarIdsDeContactos(alumno);
+            compactarContactos(alumno);
+            alumno.setVersion(existente == null ? 1 : existente.alumno.getVersion() + 1);
+            Registro registro = new Registro(existente == null ? nextSecuencia.getAndIncrement() : existente.secuencia, alumno);
+            alumno.setAlta(registro.secuencia);
+            if (renombra(operacion)) {
+                renombrados.put(clave, alumno);
+                finales.put(clave, null);
+            } else {
+                guardados.add(alumno);
+            }
+            finales.put(normalizarLegajo(alumno.getLegajo()), registro);
+            cambios.add(new Cambio(existente, registro));
+        }
+        byte[] entrada = persistencia == null ? null : persistencia.codificarLote(guardados, eliminados, renombrados);
+
+        for (Cambio cambio : cambios) {
+            if (cambio.anterior() != null) {
+                quitarDeIndices(cambio.anterior());
+            } else {
+                cantidadDeAlumnos.incrementAndGet();
+            }
+            if (cambio.nuevo() != null) {
+                agregarAIndices(cambio.nuevo());
+            } else {
+                cantidadDeAlumnos.decrementAndGet();
+            }
+            versionDelPadron.incrementAndGet();
+        }
+        CompletableFuture<Void> confirmacion = entrada == null ? null : persistencia.registrarLote(entrada);
+
+        for (Cambio cambio : cambios) {
+            Alumno anterior = cambio.anterior() == null ? null : cambio.anterior().alumno;
+            observadores.forEach(observador -> avisar(observador, () -> {
+                if (cambio.nuevo() == null) {
+                    observador.alEliminar(anterior);
+                } else {
+                    observador.alGuardar(anterior, cambio.nuevo().alumno);
+                }
+            }));
+        }
+
+        finales.forEach((clave, registro) -> {
+            if (registro == null) {
+                alumnos.remove(clave);
+            } else {
+                alumnos.put(clave, registro);
+            }
+        });
+        return confirmacion;
+    }
+
+    private void avisar(ObservadorDeAlumnos observador, Runnable aviso) {
+        try {
+            aviso.run();
+        } catch (RuntimeException e) {
+            log.error("El observador {} falló al recibir un lote ya aplicado", observador.getClass().getSimpleName(), e);
+        }
+    }
+
+    private boolean renombra(OperacionDeLote operacion) {
+        return operacion.getTipo() == OperacionDeLote.Tipo.MODIFICACION
+                && !normalizarLegajo(operacion.getLegajo()).equals(normalizarLegajo(operacion.getAlumno().getLegajo()));
+    }
+
+    // El log puede reproducirse sobre un snapshot que ya incluye el renombramiento
+    private void reproducirRenombramiento(String legajoAnterior, Alumno alumno) {
+        alumno.getContactos().forEach(contacto -> nextContactoId.accumulateAndGet(contacto.getId() + 1, Math::max));
+        if (existsByLegajo(legajoAnterior) && !existsByLegajo(alumno.getLegajo())) {
+            renombrar(legajoAnterior, alumno, SIN_CONDICION, false);
+        } else {
+            eliminar(legajoAnterior, false);
+            guardar(alumno, false);
+        }
+    }
+
+    // Un legajo reservado o en movimiento se libera enseguida; la escritura se reintenta
+    // afuera del compute para no retener el lock del bin mientras tanto
+    private <T> T conReintentos(Supplier<T> escritura) {
+        while (true) {
+            try {
+                return escritura.get();
+            } catch (LegajoOcupado e) {
+                Thread.yield();
+            }
+        }
+    }
+
+    // Si el log falló, lo que hay en memoria ya no coincide con el disco: no se escribe más encima
+    private void verificarPersistencia() {
+        if (persistencia != null) {
+            persistencia.verificarDisponible();
+        }
+    }
+
+    // En modo durable la escritura vuelve recién cuando el log llegó a disco
+    private void esperarConfirmacion(CompletableFuture<Void> confirmacion) {
+        if (confirmacion == null) {
+            return;
+        }
+        try {
+            confirmacion.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    @Override
+    public void registrarObservador(ObservadorDeAlumnos observador) {
+        observadores.add(observador);
+        alumnos.values().stream()
+                .filter(registro -> !registro.esReserva())
+                .forEach(registro -> observador.alGuardar(null, registro.alumno));
+    }
+
+    private String normalizarLegajo(String legajo) {
+        return legajo.trim();
+    }
+
+    private void agregarAIndices(Registro registro) {
+        indicesDeOrden.forEach((orden, indice) -> indice.put(claveDeOrden(orden, registro), registro.alumno));
+    }
+
+    private void quitarDeIndices(Registro registro) {
+        indicesDeOrden.forEach((orden, indice) -> indice.remove(claveDeOrden(orden, registro)));
+    }
+
+    private String claveDeOrden(OrdenDeAlumnos orden, Registro registro) {
+        Alumno alumno = registro.alumno;
+        return switch (orden) {
+            case ALTA -> String.format("%019d", registro.secuencia);
+            case LEGAJO -> normalizarLegajo(alumno.getLegajo());
+            case APELLIDO -> NormalizadorDeTexto.normalizar(alumno.getApellido()) + '\u0000'
+                    + NormalizadorDeTexto.normalizar(alumno.getNombre()) + '\u0000'
+                    + normalizarLegajo(alumno.getLegajo());
+        };
+    }
+
+    private boolean coincide(Alumno alumno, String filtroNormalizado) {
+        if (filtroNormalizado == null) {
+            return true;
+        }
+        return NormalizadorDeTexto.normalizar(alumno.getLegajo()).contains(filtroNormalizado)
+                || NormalizadorDeTexto.normalizar(alumno.getNombre()).contains(filtroNormalizado)
+                || NormalizadorDeTexto.normalizar(alumno.getApellido()).contains(filtroNormalizado);
+    }
+
+    private String codificarCursor(String clave) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(clave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Un cursor inválido vuelve a la primera página
+            return null;
+        }
+    }
+
+    private static final class Registro {
+        private final long secuencia;
+        private final Alumno alumno;
+        // El legajo se está renombrando: se sigue leyendo pero no admite escrituras
+        private final boolean enMovimiento;
+
+        private Registro(long secuencia, Alumno alumno) {
+            this(secuencia, alumno, false);
+        }
+
+        private Registro(long secuencia, Alumno alumno, boolean enMovimiento) {
+            this.secuencia = secuencia;
+            this.alumno = alumno;
+            this.enMovimiento = enMovimiento;
+        }
+
+        private boolean esReserva() {
+            return alumno == null;
+        }
+
+        private boolean admiteEscrituras() {
+            return alumno != null && !enMovimiento;
+        }
+    }
+
+    // Una operación de un lote: el registro que había (null en un alta) y el que queda (null en una baja)
+    private record Cambio(Registro anterior, Registro nuevo) {
+    }
+
+    private static final class LegajoOcupado extends RuntimeException {
+        private LegajoOcupado() {
+            super(null, null, false, false);
+        }
+    }
+}
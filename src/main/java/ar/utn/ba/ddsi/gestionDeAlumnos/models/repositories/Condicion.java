@@ -0,0 +1,38 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+
+// Verificación que hace una escritura sobre el alumno actual (null si no existe)
+@FunctionalInterface
+public interface Condicion {
+    Condicion SIN_CONDICION = (legajo, actual) -> { };
+    Condicion SI_NO_EXISTE = (legajo, actual) -> {
+        if (actual != null) {
+            throw new DuplicateLegajoException(legajo);
+        }
+    };
+
+    void verificar(String legajo, Alumno actual);
+
+    static Condicion conVersion(Long versionEsperada) {
+        return conVersion(0, versionEsperada);
+    }
+
+    // Con altaEsperada 0 no se verifica el alta, solo la versión
+    static Condicion conVersion(long altaEsperada, Long versionEsperada) {
+        return (legajo, actual) -> {
+            if (actual == null) {
+                throw new NotFoundException("Alumno", legajo);
+            }
+            if (altaEsperada != 0 && altaEsperada != actual.getAlta()) {
+                throw new ConflictoDeVersionException(legajo);
+            }
+            if (versionEsperada != null && versionEsperada != actual.getVersion()) {
+                throw new ConflictoDeVersionException(legajo, versionEsperada, actual.getVersion());
+            }
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+
+public interface ObservadorDeAlumnos {
+
+    // anterior es null cuando se trata de un alta
+    void alGuardar(Alumno anterior, Alumno nuevo);
+
+    void alEliminar(Alumno eliminado);
+}
@@ -0,0 +1,37 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Una escritura dentro de un lote de AlumnosRepository.aplicarLote
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OperacionDeLote {
+    private final Tipo tipo;
+    // Legajo actual del alumno; en las altas, el del alumno nuevo
+    private final String legajo;
+    // Estado nuevo del alumno; null en las bajas
+    private final Alumno alumno;
+    // null acepta cualquier versión
+    private final Long versionEsperada;
+
+    public static OperacionDeLote alta(Alumno alumno) {
+        return new OperacionDeLote(Tipo.ALTA, alumno.getLegajo(), alumno, null);
+    }
+
+    public static OperacionDeLote modificacion(String legajo, Alumno alumno, Long versionEsperada) {
+        return new OperacionDeLote(Tipo.MODIFICACION, legajo, alumno, versionEsperada);
+    }
+
+    public static OperacionDeLote baja(String legajo, Long versionEsperada) {
+        return new OperacionDeLote(Tipo.BAJA, legajo, null, versionEsperada);
+    }
+
+    public enum Tipo {
+        ALTA,
+        MODIFICACION,
+        BAJA
+    }
+}
@@ -0,0 +1,19 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+public enum OrdenDeAlumnos {
+    ALTA,
+    LEGAJO,
+    APELLIDO;
+
+    public static OrdenDeAlumnos desde(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return ALTA;
+        }
+        for (OrdenDeAlumnos orden : values()) {
+            if (orden.name().equalsIgnoreCase(valor.trim())) {
+                return orden;
+            }
+        }
+        return ALTA;
+    }
+}
@@ -0,0 +1,35 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class Pagina<T> {
+    private final List<T> elementos;
+    private final OrdenDeAlumnos orden;
+    private final String filtro;
+    private final int tamanio;
+    private final String cursor;
+    private final String siguienteCursor;
+
+    public boolean isEmpty() {
+        return elementos.isEmpty();
+    }
+
+    public boolean hayMas() {
+        return siguienteCursor != null;
+    }
+
+    public boolean esPrimera() {
+        return cursor == null;
+    }
+
+    public <R> Pagina<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertidos = elementos.stream().<R>map(conversor).toList();
+        return new Pagina<>(convertidos, orden, filtro, tamanio, cursor, siguienteCursor);
+    }
+}
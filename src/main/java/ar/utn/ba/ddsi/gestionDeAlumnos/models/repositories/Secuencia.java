@@ -0,0 +1,29 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Recorrido perezoso sobre el padrón: cada iteración vuelve a leer el índice y los
+// elementos se producen de a uno, sin armar una lista intermedia.
+@RequiredArgsConstructor
+public class Secuencia<T> implements Iterable<T> {
+    private final Supplier<Stream<T>> origen;
+
+    @Override
+    public Iterator<T> iterator() {
+        return origen.get().iterator();
+    }
+
+    // Solo busca el primer elemento
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public <R> Secuencia<R> map(Function<? super T, ? extends R> conversor) {
+        return new Secuencia<>(() -> origen.get().<R>map(conversor));
+    }
+}
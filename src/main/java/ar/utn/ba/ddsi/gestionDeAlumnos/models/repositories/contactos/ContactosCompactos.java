@@ -0,0 +1,119 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.contactos;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Lista de solo lectura con los contactos de un alumno en tres arreglos en lugar de un objeto
+// Contacto, un Long y un String por contacto: ids primitivos, la parte compartida del valor
+// (del pool) y un bloque de bytes con el tipo y la parte propia de cada uno. Cada get arma un
+// Contacto nuevo, así que modificarlo no cambia lo guardado.
+public final class ContactosCompactos extends AbstractList<Contacto> implements RandomAccess {
+    private static final TipoContacto[] TIPOS = TipoContacto.values();
+    // Los últimos 8 dígitos de un teléfono son el número de abonado; lo anterior es la característica
+    private static final int DIGITOS_DE_ABONADO = 8;
+    private static final int LARGO_MAXIMO = 0xFFFF;
+
+    private final long[] ids;
+    // Dominio ("@mail.com") de un email o característica ("+54 11 ") de un teléfono; null si no tiene
+    private final String[] compartidos;
+    // Por contacto: ordinal del tipo (1 byte), largo de la parte propia (2 bytes) y la parte en UTF-8
+    private final byte[] datos;
+
+    private ContactosCompactos(long[] ids, String[] compartidos, byte[] datos) {
+        this.ids = ids;
+        this.compartidos = compartidos;
+        this.datos = datos;
+    }
+
+    public static List<Contacto> compactar(List<Contacto> contactos, PoolDeContactos pool) {
+        if (contactos instanceof ContactosCompactos) {
+            return contactos;
+        }
+        int cantidad = contactos.size();
+        long[] ids = new long[cantidad];
+        String[] compartidos = new String[cantidad];
+        byte[][] propios = new byte[cantidad][];
+        int tamanio = 0;
+        for (int i = 0; i < cantidad; i++) {
+            Contacto contacto = contactos.get(i);
+            String valor = contacto.getValor();
+            int corte = corte(contacto.getTipoContacto(), valor);
+            ids[i] = contacto.getId();
+            if (contacto.getTipoContacto() == TipoContacto.EMAIL) {
+                compartidos[i] = corte < 0 ? null : pool.compartir(valor.substring(corte));
+                propios[i] = (corte < 0 ? valor : valor.substring(0, corte)).getBytes(StandardCharsets.UTF_8);
+            } else {
+                compartidos[i] = corte <= 0 ? null : pool.compartir(valor.substring(0, corte));
+                propios[i] = (corte <= 0 ? valor : valor.substring(corte)).getBytes(StandardCharsets.UTF_8);
+            }
+            if (propios[i].length > LARGO_MAXIMO) {
+                // No entra en el formato: se guarda como vino
+                return contactos;
+            }
+            tamanio += 3 + propios[i].length;
+        }
+
+        byte[] datos = new byte[tamanio];
+        int posicion = 0;
+        for (int i = 0; i < cantidad; i++) {
+            datos[posicion] = (byte) contactos.get(i).getTipoContacto().ordinal();
+            datos[posicion + 1] = (byte) (propios[i].length >>> 8);
+            datos[posicion + 2] = (byte) propios[i].length;
+            System.arraycopy(propios[i], 0, datos, posicion + 3, propios[i].length);
+            posicion += 3 + propios[i].length;
+        }
+        return new ContactosCompactos(ids, compartidos, datos);
+    }
+
+    @Override
+    public Contacto get(int indice) {
+        if (indice < 0 || indice >= ids.length) {
+            throw new IndexOutOfBoundsException(indice);
+        }
+        int posicion = 0;
+        for (int i = 0; i < indice; i++) {
+            posicion += 3 + largo(posicion);
+        }
+        TipoContacto tipo = TIPOS[datos[posicion]];
+        String propio = new String(datos, posicion + 3, largo(posicion), StandardCharsets.UTF_8);
+        String compartido = compartidos[indice];
+
+        Contacto contacto = new Contacto();
+        contacto.setId(ids[indice]);
+        contacto.setTipoContacto(tipo);
+        if (compartido == null) {
+            contacto.setValor(propio);
+        } else {
+            contacto.setValor(tipo == TipoContacto.EMAIL ? propio + compartido : compartido + propio);
+        }
+        return contacto;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    private int largo(int posicion) {
+        return ((datos[posicion + 1] & 0xFF) << 8) | (datos[posicion + 2] & 0xFF);
+    }
+
+    // Dónde empieza el dominio de un email o el número de abonado de un teléfono (-1 si no hay)
+    private static int corte(TipoContacto tipo, String valor) {
+        if (tipo == TipoContacto.EMAIL) {
+            return valor.lastIndexOf('@');
+        }
+        int digitos = 0;
+        for (int i = valor.length() - 1; i >= 0; i--) {
+            if (Character.isDigit(valor.charAt(i)) && ++digitos == DIGITOS_DE_ABONADO) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,37 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.contactos;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Modo compacto de contactos: partes de valores que se repiten entre alumnos (el dominio de
+// un email, la característica de un teléfono) se guardan una sola vez. Pasado el tope, los
+// valores nuevos se guardan sin compartir para que los únicos no hagan crecer el pool.
+@Component
+@ConditionalOnProperty(name = "alumnos.contactos.modo", havingValue = "compacto")
+public class PoolDeContactos {
+    private final int capacidad;
+    private final ConcurrentHashMap<String, String> valores = new ConcurrentHashMap<>();
+
+    public PoolDeContactos(@Value("${alumnos.contactos.pool-maximo:100000}") int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    public String compartir(String valor) {
+        String existente = valores.get(valor);
+        if (existente != null) {
+            return existente;
+        }
+        if (valores.size() >= capacidad) {
+            return valor;
+        }
+        existente = valores.putIfAbsent(valor, valor);
+        return existente == null ? valor : existente;
+    }
+
+    public int getTamanio() {
+        return valores.size();
+    }
+}
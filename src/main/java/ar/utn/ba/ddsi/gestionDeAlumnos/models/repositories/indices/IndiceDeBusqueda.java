@@ -0,0 +1,166 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Índice invertido en memoria sobre legajo, nombre, apellido y valores de contacto.
+// Se mantiene al día con cada alta, modificación y baja del repositorio.
+@Component
+public class IndiceDeBusqueda implements ObservadorDeAlumnos {
+    // Cada lista de legajos está ordenada para poder cortar la búsqueda apenas se junta el límite.
+    // Las listas se tocan solo dentro de compute del ConcurrentHashMap, que es atómico por término:
+    // así una baja que deja vacía la lista no puede llevarse un legajo agregado al mismo tiempo
+    private final ConcurrentHashMap<String, NavigableSet<String>> legajosPorTermino = new ConcurrentHashMap<>();
+    // Los términos con alguna lista, ordenados para resolver las búsquedas por prefijo con subSet.
+    // Se actualiza dentro del mismo compute que crea o elimina la lista del término
+    private final ConcurrentSkipListSet<String> terminosIndexados = new ConcurrentSkipListSet<>();
+    // Los términos con los que quedó indexado cada legajo, para filtrar por el resto de la consulta
+    private final ConcurrentHashMap<String, Set<String>> terminosPorLegajo = new ConcurrentHashMap<>();
+
+    public IndiceDeBusqueda(AlumnosRepository alumnosRepository) {
+        alumnosRepository.registrarObservador(this);
+    }
+
+    @Override
+    public void alGuardar(Alumno anterior, Alumno nuevo) {
+        if (anterior != null) {
+            alEliminar(anterior);
+        }
+        String legajo = nuevo.getLegajo().trim();
+        Set<String> terminos = terminosDe(nuevo);
+        terminosPorLegajo.put(legajo, terminos);
+        terminos.forEach(termino -> legajosPorTermino.compute(termino, (clave, legajos) -> {
+            NavigableSet<String> actualizados = legajos;
+            if (actualizados == null) {
+                actualizados = new ConcurrentSkipListSet<>();
+                terminosIndexados.add(clave);
+            }
+            actualizados.add(legajo);
+            return actualizados;
+        }));
+    }
+
+    @Override
+    public void alEliminar(Alumno eliminado) {
+        String legajo = eliminado.getLegajo().trim();
+        Set<String> terminos = terminosPorLegajo.remove(legajo);
+        if (terminos == null) {
+            return;
+        }
+        terminos.forEach(termino -> legajosPorTermino.computeIfPresent(termino, (clave, legajos) -> {
+            legajos.remove(legajo);
+            if (!legajos.isEmpty()) {
+                return legajos;
+            }
+            terminosIndexados.remove(clave);
+            return null;
+        }));
+    }
+
+    // Devuelve, en orden de legajo y hasta el límite, los legajos que tienen algún término que
+    // empieza con cada palabra de la consulta. Recorre las listas del prefijo más largo mezclándolas
+    // en orden y filtra cada candidato por el resto de los prefijos.
+    public List<String> buscar(String consulta, int limite) {
+        List<String> prefijos = NormalizadorDeTexto.tokenizar(consulta);
+        if (prefijos.isEmpty() || limite < 1) {
+            return List.of();
+        }
+        String guia = prefijos.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        PriorityQueue<Cursor> cursores = new PriorityQueue<>(Comparator.comparing(Cursor::actual));
+        for (String termino : terminosIndexados.subSet(guia, true, guia + Character.MAX_VALUE, true)) {
+            // La lista pudo quedar vacía y desaparecer después de leer el término
+            NavigableSet<String> legajos = legajosPorTermino.get(termino);
+            if (legajos != null) {
+                Cursor.sobre(legajos).ifPresent(cursores::add);
+            }
+        }
+
+        List<String> resultado = new ArrayList<>(Math.min(limite, 64));
+        String anterior = null;
+        while (!cursores.isEmpty() && resultado.size() < limite) {
+            Cursor cursor = cursores.poll();
+            String legajo = cursor.actual();
+            if (cursor.avanzar()) {
+                cursores.add(cursor);
+            }
+            if (legajo.equals(anterior)) {
+                continue;
+            }
+            anterior = legajo;
+            if (coincideConTodos(legajo, prefijos)) {
+                resultado.add(legajo);
+            }
+        }
+        return resultado;
+    }
+
+    private boolean coincideConTodos(String legajo, List<String> prefijos) {
+        Set<String> terminos = terminosPorLegajo.get(legajo);
+        if (terminos == null) {
+            return false;
+        }
+        return prefijos.stream().allMatch(prefijo -> terminos.stream().anyMatch(termino -> termino.startsWith(prefijo)));
+    }
+
+    private Set<String> terminosDe(Alumno alumno) {
+        Set<String> terminos = new HashSet<>();
+        terminos.add(NormalizadorDeTexto.normalizar(alumno.getLegajo()));
+        terminos.addAll(NormalizadorDeTexto.tokenizar(alumno.getLegajo()));
+        terminos.addAll(NormalizadorDeTexto.tokenizar(alumno.getNombre()));
+        terminos.addAll(NormalizadorDeTexto.tokenizar(alumno.getApellido()));
+
+        for (Contacto contacto : alumno.getContactos()) {
+            terminos.addAll(NormalizadorDeTexto.tokenizar(contacto.getValor()));
+            // Los teléfonos también se indexan como una sola secuencia de dígitos
+            String digitos = NormalizadorDeTexto.soloDigitos(contacto.getValor());
+            if (!digitos.isEmpty()) {
+                terminos.add(digitos);
+            }
+        }
+        return terminos;
+    }
+
+    // Posición dentro de la lista ordenada de legajos de un término
+    private static final class Cursor {
+        private final Iterator<String> resto;
+        private String actual;
+
+        private Cursor(Iterator<String> resto) {
+            this.resto = resto;
+            this.actual = resto.next();
+        }
+
+        private static Optional<Cursor> sobre(NavigableSet<String> legajos) {
+            Iterator<String> iterador = legajos.iterator();
+            return iterador.hasNext() ? Optional.of(new Cursor(iterador)) : Optional.empty();
+        }
+
+        private String actual() {
+            return actual;
+        }
+
+        private boolean avanzar() {
+            if (!resto.hasNext()) {
+                return false;
+            }
+            actual = resto.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Índices secundarios por valor de contacto: email normalizado y teléfono por sus dígitos.
+// Resuelven "¿de quién es este contacto?" con un acceso al mapa en lugar de recorrer el padrón.
+@Component
+public class IndiceDeContactos implements ObservadorDeAlumnos {
+    // Largo del número nacional: "+54 11 1234-5678" y "11 1234-5678" tienen la misma clave
+    private static final int DIGITOS_DE_TELEFONO = 10;
+
+    private final ConcurrentHashMap<String, Set<String>> legajosPorEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> legajosPorTelefono = new ConcurrentHashMap<>();
+
+    public IndiceDeContactos(AlumnosRepository alumnosRepository) {
+        alumnosRepository.registrarObservador(this);
+    }
+
+    @Override
+    public void alGuardar(Alumno anterior, Alumno nuevo) {
+        if (anterior != null) {
+            alEliminar(anterior);
+        }
+        String legajo = nuevo.getLegajo().trim();
+        for (Contacto contacto : nuevo.getContactos()) {
+            String clave = claveDe(contacto);
+            if (!clave.isEmpty()) {
+                indiceDe(contacto.getTipoContacto()).compute(clave, (valor, legajos) -> {
+                    Set<String> actualizados = legajos == null ? ConcurrentHashMap.newKeySet() : legajos;
+                    actualizados.add(legajo);
+                    return actualizados;
+                });
+            }
+        }
+    }
+
+    @Override
+    public void alEliminar(Alumno eliminado) {
+        String legajo = eliminado.getLegajo().trim();
+        for (Contacto contacto : eliminado.getContactos()) {
+            indiceDe(contacto.getTipoContacto()).computeIfPresent(claveDe(contacto), (valor, legajos) -> {
+                legajos.remove(legajo);
+                return legajos.isEmpty() ? null : legajos;
+            });
+        }
+    }
+
+    public Set<String> buscarPorEmail(String email) {
+        return new TreeSet<>(legajosPorEmail.getOrDefault(NormalizadorDeTexto.normalizarEmail(email), Set.of()));
+    }
+
+    public Set<String> buscarPorTelefono(String telefono) {
+        return new TreeSet<>(legajosPorTelefono.getOrDefault(claveDeTelefono(telefono), Set.of()));
+    }
+
+    private ConcurrentHashMap<String, Set<String>> indiceDe(TipoContacto tipo) {
+        return tipo == TipoContacto.EMAIL ? legajosPorEmail : legajosPorTelefono;
+    }
+
+    private static String claveDe(Contacto contacto) {
+        return contacto.getTipoContacto() == TipoContacto.EMAIL
+                ? NormalizadorDeTexto.normalizarEmail(contacto.getValor())
+                : claveDeTelefono(contacto.getValor());
+    }
+
+    private static String claveDeTelefono(String telefono) {
+        String digitos = NormalizadorDeTexto.soloDigitos(telefono);
+        return digitos.length() > DIGITOS_DE_TELEFONO ? digitos.substring(digitos.length() - DIGITOS_DE_TELEFONO) : digitos;
+    }
+}
@@ -0,0 +1,46 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NormalizadorDeTexto {
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern NO_DIGITOS = Pattern.compile("\\D+");
+
+    private NormalizadorDeTexto() {
+    }
+
+    // "Martínez" -> "martinez"
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinDiacriticos = DIACRITICOS.matcher(Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return sinDiacriticos.toLowerCase(Locale.ROOT);
+    }
+
+    // "juan.perez@email.com" -> [juan, perez, email, com]
+    public static List<String> tokenizar(String texto) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizar(texto))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // " Juan.Perez@Email.com " -> "juan.perez@email.com"
+    public static String normalizarEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // "+54 (11) 1234-5678" -> "541112345678"
+    public static String soloDigitos(String texto) {
+        return texto == null ? "" : NO_DIGITOS.matcher(texto).replaceAll("");
+    }
+}
@@ -0,0 +1,556 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.jdbc;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosDeEjemplo;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OrdenDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Secuencia;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices.NormalizadorDeTexto;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.SIN_CONDICION;
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.SI_NO_EXISTE;
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Condicion.conVersion;
+
+// Repositorio sobre una base relacional (H2 embebida salvo que se configure otra URL). Cada
+// consulta trae a los alumnos junto con sus contactos en un solo LEFT JOIN y los contactos se
+// escriben en batch. Los índices que alimentan los observadores viven en este proceso, así que
+// se asume que es el único que escribe en la base.
+@Repository
+@ConditionalOnProperty(name = "alumnos.repositorio.modo", havingValue = "jdbc")
+public class AlumnosRepositoryJdbc implements AlumnosRepository {
+    private static final int TAMANIO_DE_BATCH = 500;
+    // Alumnos por consulta al recorrer el padrón o al leer los de un lote
+    private static final int TAMANIO_DE_BLOQUE = 500;
+    // Igual al INCREMENT BY de la secuencia contacto_id
+    private static final int BLOQUE_DE_IDS = 100;
+    private static final int FRANJAS = 64;
+
+    private static final String COLUMNAS = "a.legajo, a.secuencia, a.nombre, a.apellido, a.version, c.id, c.tipo, c.valor";
+    private static final String CON_CONTACTOS = " LEFT JOIN contacto c ON c.legajo = a.legajo";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacciones;
+    private final List<ObservadorDeAlumnos> observadores = new CopyOnWriteArrayList<>();
+    private final AtomicLong versionDelPadron = new AtomicLong();
+    // Serializan las escrituras de cada legajo: los observadores reciben los cambios en el orden
+    // en que se confirmaron y dos escrituras del mismo legajo no se esperan dentro de la base
+    private final ReentrantLock[] franjas = new ReentrantLock[FRANJAS];
+    private final ReentrantLock reservaDeIds = new ReentrantLock();
+    private long siguienteIdDeContacto;
+    private long limiteDeIdsDeContacto;
+
+    public AlumnosRepositoryJdbc(JdbcTemplate jdbcTemplate, TransactionTemplate transacciones) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transacciones = transacciones;
+        for (int i = 0; i < FRANJAS; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+        if (count() == 0) {
+            saveAll(AlumnosDeEjemplo.crear());
+        }
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public List<Alumno> findAll() {
+        return alumnosDe(jdbcTemplate.query("SELECT " + COLUMNAS + " FROM alumno a" + CON_CONTACTOS
+                + " ORDER BY a.secuencia, c.posicion", this::leerFilas));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Pagina<Alumno> findPage(String filtro, OrdenDeAlumnos orden, String cursor, int tamanio) {
+        String desde = decodificarCursor(cursor);
+        // Una fila de más indica si hay otra página
+        List<Fila> filas = buscar(normalizarFiltro(filtro), orden, desde, tamanio + 1);
+        boolean hayMas = filas.size() > tamanio;
+        List<Fila> elementos = hayMas ? filas.subList(0, tamanio) : filas;
+
+        String siguienteCursor = hayMas ? codificarCursor(claveDeOrden(orden, elementos.get(tamanio - 1))) : null;
+        return new Pagina<>(alumnosDe(elementos), orden, filtro, tamanio, desde == null ? null : cursor, siguienteCursor);
+    }
+
+    // Se lee de a bloques por clave, sin dejar una conexión tomada mientras se consume
+    @Override
+    public Secuencia<Alumno> findAll(String filtro, OrdenDeAlumnos orden) {
+        String filtroNormalizado = normalizarFiltro(filtro);
+        return new Secuencia<>(() -> Stream.iterate(
+                        buscar(filtroNormalizado, orden, null, TAMANIO_DE_BLOQUE),
+                        bloque -> !bloque.isEmpty(),
+                        bloque -> bloque.size() < TAMANIO_DE_BLOQUE
+                                ? List.of()
+                                : buscar(filtroNormalizado, orden, claveDeOrden(orden, bloque.get(bloque.size() - 1)), TAMANIO_DE_BLOQUE))
+                .flatMap(bloque -> bloque.stream().map(Fila::alumno)));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Optional<Alumno> findByLegajo(String legajo) {
+        List<Fila> filas = jdbcTemplate.query("SELECT " + COLUMNAS + " FROM alumno a" + CON_CONTACTOS
+                + " WHERE a.legajo = ? ORDER BY c.posicion", this::leerFilas, normalizarLegajo(legajo));
+        return filas.stream().findFirst().map(Fila::alumno);
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public boolean existsByLegajo(String legajo) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM alumno WHERE legajo = ?)", Boolean.class, normalizarLegajo(legajo)));
+    }
+
+    @Override
+    public long count() {
+        Long cantidad = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM alumno", Long.class);
+        return cantidad == null ? 0 : cantidad;
+    }
+
+    @Override
+    public long getVersionDelPadron() {
+        return versionDelPadron.get();
+    }
+
+    @Override
+    public void forEach(Consumer<Alumno> consumidor) {
+        findAll(null, OrdenDeAlumnos.ALTA).forEach(consumidor);
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void save(Alumno alumno) {
+        lanzarSiHayErrores(escribir(List.of(new Escritura(normalizarLegajo(alumno.getLegajo()), alumno, SIN_CONDICION))));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void insert(Alumno alumno) {
+        lanzarSiHayErrores(escribir(List.of(new Escritura(normalizarLegajo(alumno.getLegajo()), alumno, SI_NO_EXISTE))));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void update(String legajo, Alumno alumno, Long versionEsperada) {
+        lanzarSiHayErrores(escribir(List.of(new Escritura(normalizarLegajo(legajo), alumno,
+                conVersion(alumno.getAlta(), versionEsperada)))));
+    }
+
+    // Una sola transacción; si un legajo se repite queda el último, como al guardarlos de a uno
+    @Override
+    @Timed("alumnos.repositorio")
+    public void saveAll(Collection<Alumno> alumnosAGuardar) {
+        Map<String, Alumno> porLegajo = new LinkedHashMap<>();
+        for (Alumno alumno : alumnosAGuardar) {
+            porLegajo.put(normalizarLegajo(alumno.getLegajo()), alumno);
+        }
+        List<Escritura> escrituras = new ArrayList<>(porLegajo.size());
+        porLegajo.forEach((legajo, alumno) -> escrituras.add(new Escritura(legajo, alumno, SIN_CONDICION)));
+        if (!escrituras.isEmpty()) {
+            lanzarSiHayErrores(escribir(escrituras));
+        }
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public void deleteByLegajo(String legajo) {
+        lanzarSiHayErrores(escribir(List.of(new Escritura(normalizarLegajo(legajo), null, SIN_CONDICION))));
+    }
+
+    @Override
+    @Timed("alumnos.repositorio")
+    public Map<Integer, RuntimeException> aplicarLote(List<OperacionDeLote> operaciones) {
+        TreeSet<String> claves = new TreeSet<>();
+        int legajosDelLote = 0;
+        List<Escritura> escrituras = new ArrayList<>(operaciones.size());
+        for (OperacionDeLote operacion : operaciones) {
+            Escritura escritura = switch (operacion.getTipo()) {
+                case ALTA -> new Escritura(normalizarLegajo(operacion.getLegajo()), operacion.getAlumno(), SI_NO_EXISTE);
+                case MODIFICACION -> new Escritura(normalizarLegajo(operacion.getLegajo()), operacion.getAlumno(),
+                        conVersion(operacion.getAlumno().getAlta(), operacion.getVersionEsperada()));
+                case BAJA -> new Escritura(normalizarLegajo(operacion.getLegajo()), null, conVersion(operacion.getVersionEsperada()));
+            };
+            claves.add(escritura.legajo());
+            legajosDelLote++;
+            if (escritura.renombra()) {
+                claves.add(escritura.legajoNuevo());
+                legajosDelLote++;
+            }
+            escrituras.add(escritura);
+        }
+        if (claves.size() != legajosDelLote) {
+            throw new IllegalArgumentException("Un legajo aparece en más de una operación del lote");
+        }
+        return escribir(escrituras);
+    }
+
+    @Override
+    public void registrarObservador(ObservadorDeAlumnos observador) {
+        observadores.add(observador);
+        forEach(alumno -> observador.alGuardar(null, alumno));
+    }
+
+    // Verifica y aplica las escrituras en una sola transacción: si alguna no cumple su condición
+    // no se aplica ninguna y se devuelven los errores por posición. Los observadores se
+    // notifican después del commit, todavía con los legajos tomados.
+    private Map<Integer, RuntimeException> escribir(List<Escritura> escrituras) {
+        TreeSet<String> legajos = new TreeSet<>();
+        for (Escritura escritura : escrituras) {
+            legajos.add(escritura.legajo());
+            if (escritura.renombra()) {
+                legajos.add(escritura.legajoNuevo());
+            }
+        }
+        return conLegajos(legajos, () -> {
+            List<Cambio> cambios = new ArrayList<>();
+            Map<Integer, RuntimeException> errores = transacciones.execute(estado -> {
+                Map<String, Alumno> actuales = leerPorLegajo(legajos);
+                Map<Integer, RuntimeException> encontrados = verificar(escrituras, actuales);
+                if (encontrados.isEmpty()) {
+                    cambios.addAll(aplicar(escrituras, actuales));
+                }
+                return encontrados;
+            });
+            cambios.forEach(this::notificar);
+            return errores;
+        });
+    }
+
+    private Map<Integer, RuntimeException> verificar(List<Escritura> escrituras, Map<String, Alumno> actuales) {
+        Map<Integer, RuntimeException> errores = new TreeMap<>();
+        for (int i = 0; i < escrituras.size(); i++) {
+            Escritura escritura = escrituras.get(i);
+            try {
+                escritura.condicion().verificar(escritura.legajo(), actuales.get(escritura.legajo()));
+                if (escritura.renombra()) {
+                    SI_NO_EXISTE.verificar(escritura.legajoNuevo(), actuales.get(escritura.legajoNuevo()));
+                }
+            } catch (RuntimeException e) {
+                errores.put(i, e);
+            }
+        }
+        return errores;
+    }
+
+    // Los contactos de un alumno modificado se reemplazan completos: se borran antes de que la
+    // fila del alumno cambie de legajo y se insertan todos juntos en un batch al final
+    private List<Cambio> aplicar(List<Escritura> escrituras, Map<String, Alumno> actuales) {
+        List<Cambio> cambios = new ArrayList<>(escrituras.size());
+        List<String> bajas = new ArrayList<>();
+        Map<String, Alumno> modificados = new LinkedHashMap<>();
+        List<Alumno> altas = new ArrayList<>();
+        for (Escritura escritura : escrituras) {
+            Alumno actual = actuales.get(escritura.legajo());
+            Alumno nuevo = escritura.alumno();
+            if (nuevo == null) {
+                if (actual != null) {
+                    bajas.add(escritura.legajo());
+                    cambios.add(new Cambio(actual, null));
+                }
+                continue;
+            }
+            asignarIdsDeContactos(nuevo);
+            nuevo.setVersion(actual == null ? 1 : actual.getVersion() + 1);
+            if (actual == null) {
+                altas.add(nuevo);
+            } else {
+                nuevo.setAlta(actual.getAlta());
+                modificados.put(escritura.legajo(), nuevo);
+            }
+            cambios.add(new Cambio(actual, nuevo));
+        }
+
+        // Los contactos de las bajas se van por ON DELETE CASCADE
+        enBatch("DELETE FROM alumno WHERE legajo = ?", bajas,
+                (sentencia, legajo) -> sentencia.setString(1, legajo));
+        enBatch("DELETE FROM contacto WHERE legajo = ?", modificados.keySet(),
+                (sentencia, legajo) -> sentencia.setString(1, legajo));
+        enBatch("UPDATE alumno SET legajo = ?, nombre = ?, apellido = ?, version = ?, clave_apellido = ?, "
+                        + "texto_normalizado = ? WHERE legajo = ?", modificados.entrySet(),
+                (sentencia, modificado) -> {
+                    completarAlumno(sentencia, modificado.getValue());
+                    sentencia.setString(7, modificado.getKey());
+                });
+        enBatch("INSERT INTO alumno (legajo, nombre, apellido, version, clave_apellido, texto_normalizado, "
+                        + "secuencia) VALUES (?, ?, ?, ?, ?, ?, NEXT VALUE FOR alumno_secuencia)", altas,
+                this::completarAlumno);
+        asignarAltas(altas);
+
+        List<Object[]> contactos = new ArrayList<>();
+        for (Alumno alumno : Stream.concat(modificados.values().stream(), altas.stream()).toList()) {
+            List<Contacto> delAlumno = alumno.getContactos();
+            for (int posicion = 0; posicion < delAlumno.size(); posicion++) {
+                Contacto contacto = delAlumno.get(posicion);
+                contactos.add(new Object[]{normalizarLegajo(alumno.getLegajo()), posicion, contacto.getId(),
+                        contacto.getTipoContacto().name(), contacto.getValor()});
+            }
+        }
+        enBatch("INSERT INTO contacto (legajo, posicion, id, tipo, valor) VALUES (?, ?, ?, ?, ?)",
+                contactos, (sentencia, contacto) -> {
+                    for (int i = 0; i < contacto.length; i++) {
+                        sentencia.setObject(i + 1, contacto[i]);
+                    }
+                });
+        return cambios;
+    }
+
+    private <T> void enBatch(String sql, Collection<T> filas, ParameterizedPreparedStatementSetter<T> completar) {
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, filas, TAMANIO_DE_BATCH, completar);
+        }
+    }
+
+    private void completarAlumno(PreparedStatement sentencia, Alumno alumno) throws SQLException {
+        sentencia.setString(1, normalizarLegajo(alumno.getLegajo()));
+        sentencia.setString(2, alumno.getNombre());
+        sentencia.setString(3, alumno.getApellido());
+        sentencia.setLong(4, alumno.getVersion());
+        sentencia.setString(5, claveDeApellido(alumno));
+        sentencia.setString(6, NormalizadorDeTexto.normalizar(alumno.getLegajo()) + '\u0000'
+                + NormalizadorDeTexto.normalizar(alumno.getNombre()) + '\u0000'
+                + NormalizadorDeTexto.normalizar(alumno.getApellido()));
+    }
+
+    private void notificar(Cambio cambio) {
+        versionDelPadron.incrementAndGet();
+        if (cambio.nuevo() == null) {
+            observadores.forEach(observador -> observador.alEliminar(cambio.anterior()));
+        } else {
+            observadores.forEach(observador -> observador.alGuardar(cambio.anterior(), cambio.nuevo()));
+        }
+    }
+
+    // Las franjas se toman en orden para que dos escrituras de varios legajos no se esperen mutuamente
+    private <T> T conLegajos(Collection<String> legajos, Supplier<T> escritura) {
+        int[] indices = legajos.stream().mapToInt(legajo -> Math.floorMod(legajo.hashCode(), FRANJAS)).distinct().sorted().toArray();
+        for (int indice : indices) {
+            franjas[indice].lock();
+        }
+        try {
+            return escritura.get();
+        } finally {
+            for (int i = indices.length - 1; i >= 0; i--) {
+                franjas[indices[i]].unlock();
+            }
+        }
+    }
+
+    private Map<String, Alumno> leerPorLegajo(Collection<String> legajos) {
+        Map<String, Alumno> leidos = new HashMap<>();
+        List<String> pendientes = new ArrayList<>(legajos);
+        for (int desde = 0; desde < pendientes.size(); desde += TAMANIO_DE_BLOQUE) {
+            List<String> bloque = pendientes.subList(desde, Math.min(desde + TAMANIO_DE_BLOQUE, pendientes.size()));
+            String marcadores = String.join(", ", Collections.nCopies(bloque.size(), "?"));
+            jdbcTemplate.query("SELECT " + COLUMNAS + " FROM alumno a" + CON_CONTACTOS + " WHERE a.legajo IN (" + marcadores
+                            + ") ORDER BY a.legajo, c.posicion", this::leerFilas, bloque.toArray())
+                    .forEach(fila -> leidos.put(fila.alumno().getLegajo(), fila.alumno()));
+        }
+        return leidos;
+    }
+
+    // Keyset: la página siguiente arranca después de la última clave, con el índice de la columna
+    // de orden. La subconsulta limita alumnos y el join trae los contactos de esos alumnos.
+    private List<Fila> buscar(String filtroNormalizado, OrdenDeAlumnos orden, String desde, int limite) {
+        String columna = columnaDeOrden(orden);
+        List<String> condiciones = new ArrayList<>(2);
+        List<Object> parametros = new ArrayList<>(3);
+        if (desde != null) {
+            condiciones.add(columna + " > ?");
+            parametros.add(orden == OrdenDeAlumnos.ALTA ? secuenciaDeCursor(desde) : desde);
+        }
+        if (filtroNormalizado != null) {
+            condiciones.add("texto_normalizado LIKE ? ESCAPE '\\'");
+            parametros.add("%" + filtroNormalizado.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        parametros.add(limite);
+        String sql = "SELECT " + COLUMNAS + " FROM (SELECT * FROM alumno"
+                + (condiciones.isEmpty() ? "" : " WHERE " + String.join(" AND ", condiciones))
+                + " ORDER BY " + columna + " LIMIT ?) a" + CON_CONTACTOS
+                + " ORDER BY a." + columna + ", c.posicion";
+        return jdbcTemplate.query(sql, this::leerFilas, parametros.toArray());
+    }
+
+    // Las filas llegan ordenadas por alumno: cada legajo nuevo abre un alumno y sus filas le suman contactos
+    private List<Fila> leerFilas(ResultSet resultado) throws SQLException {
+        List<Fila> filas = new ArrayList<>();
+        Fila actual = null;
+        while (resultado.next()) {
+            String legajo = resultado.getString("legajo");
+            if (actual == null || !actual.alumno().getLegajo().equals(legajo)) {
+                Alumno alumno = new Alumno();
+                alumno.setLegajo(legajo);
+                alumno.setNombre(resultado.getString("nombre"));
+                alumno.setApellido(resultado.getString("apellido"));
+                alumno.setVersion(resultado.getLong("version"));
+                alumno.setAlta(resultado.getLong("secuencia"));
+                actual = new Fila(alumno.getAlta(), alumno);
+                filas.add(actual);
+            }
+            String tipo = resultado.getString("tipo");
+            if (tipo != null) {
+                Contacto contacto = new Contacto();
+                contacto.setId(resultado.getLong("id"));
+                contacto.setTipoContacto(TipoContacto.valueOf(tipo));
+                contacto.setValor(resultado.getString("valor"));
+                actual.alumno().agregarContacto(contacto);
+            }
+        }
+        return filas;
+    }
+
+    // El alta de un alumno es la secuencia que le dio la base al insertarlo
+    private void asignarAltas(List<Alumno> altas) {
+        Map<String, Alumno> porLegajo = new HashMap<>();
+        altas.forEach(alumno -> porLegajo.put(normalizarLegajo(alumno.getLegajo()), alumno));
+        List<String> legajos = new ArrayList<>(porLegajo.keySet());
+        for (int desde = 0; desde < legajos.size(); desde += TAMANIO_DE_BLOQUE) {
+            List<String> bloque = legajos.subList(desde, Math.min(desde + TAMANIO_DE_BLOQUE, legajos.size()));
+            String marcadores = String.join(", ", Collections.nCopies(bloque.size(), "?"));
+            jdbcTemplate.query("SELECT legajo, secuencia FROM alumno WHERE legajo IN (" + marcadores + ")",
+                    (RowCallbackHandler) resultado -> porLegajo.get(resultado.getString("legajo"))
+                            .setAlta(resultado.getLong("secuencia")),
+                    bloque.toArray());
+        }
+    }
+
+    private List<Alumno> alumnosDe(List<Fila> filas) {
+        List<Alumno> alumnos = new ArrayList<>(filas.size());
+        filas.forEach(fila -> alumnos.add(fila.alumno()));
+        return alumnos;
+    }
+
+    private void asignarIdsDeContactos(Alumno alumno) {
+        for (Contacto contacto : alumno.getContactos()) {
+            if (contacto.getId() == 0) {
+                contacto.setId(siguienteIdDeContacto());
+            }
+        }
+    }
+
+    // Se reserva un bloque de la secuencia por consulta en lugar de pedir un id por contacto
+    private long siguienteIdDeContacto() {
+        reservaDeIds.lock();
+        try {
+            if (siguienteIdDeContacto == limiteDeIdsDeContacto) {
+                Long inicio = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR contacto_id", Long.class);
+                siguienteIdDeContacto = inicio == null ? 1 : inicio;
+                limiteDeIdsDeContacto = siguienteIdDeContacto + BLOQUE_DE_IDS;
+            }
+            return siguienteIdDeContacto++;
+        } finally {
+            reservaDeIds.unlock();
+        }
+    }
+
+    private void lanzarSiHayErrores(Map<Integer, RuntimeException> errores) {
+        if (!errores.isEmpty()) {
+            throw errores.values().iterator().next();
+        }
+    }
+
+    private static String normalizarLegajo(String legajo) {
+        return legajo.trim();
+    }
+
+    private static String normalizarFiltro(String filtro) {
+        return filtro == null || filtro.isBlank() ? null : NormalizadorDeTexto.normalizar(filtro);
+    }
+
+    private static String columnaDeOrden(OrdenDeAlumnos orden) {
+        return switch (orden) {
+            case ALTA -> "secuencia";
+            case LEGAJO -> "legajo";
+            case APELLIDO -> "clave_apellido";
+        };
+    }
+
+    private static String claveDeOrden(OrdenDeAlumnos orden, Fila fila) {
+        return switch (orden) {
+            case ALTA -> Long.toString(fila.secuencia());
+            case LEGAJO -> fila.alumno().getLegajo();
+            case APELLIDO -> claveDeApellido(fila.alumno());
+        };
+    }
+
+    // Mismo orden que el índice por apellido del repositorio en memoria
+    private static String claveDeApellido(Alumno alumno) {
+        return NormalizadorDeTexto.normalizar(alumno.getApellido()) + '\u0000'
+                + NormalizadorDeTexto.normalizar(alumno.getNombre()) + '\u0000'
+                + normalizarLegajo(alumno.getLegajo());
+    }
+
+    private static long secuenciaDeCursor(String desde) {
+        try {
+            return Long.parseLong(desde);
+        } catch (NumberFormatException e) {
+            // Un cursor inválido vuelve a la primera página
+            return 0;
+        }
+    }
+
+    private static String codificarCursor(String clave) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(clave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Un cursor inválido vuelve a la primera página
+            return null;
+        }
+    }
+
+    private record Fila(long secuencia, Alumno alumno) {
+    }
+
+    // alumno es null en las bajas
+    private record Escritura(String legajo, Alumno alumno, Condicion condicion) {
+        private String legajoNuevo() {
+            return normalizarLegajo(alumno.getLegajo());
+        }
+
+        private boolean renombra() {
+            return alumno != null && !legajo.equals(legajoNuevo());
+        }
+    }
+
+    // nuevo es null en las bajas; anterior, en las altas
+    private record Cambio(Alumno anterior, Alumno nuevo) {
+    }
+}
@@ -0,0 +1,20 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// El DataSource existe solo en el modo jdbc: en memoria no se arma el pool ni aparece en /actuator/health.
+// Con él, Spring Boot configura JdbcTemplate, el TransactionManager y corre el esquema (spring.sql.init).
+@Configuration
+@ConditionalOnProperty(name = "alumnos.repositorio.modo", havingValue = "jdbc")
+public class ConfiguracionJdbc {
+
+    @Bean
+    @ConfigurationProperties("alumnos.jdbc.pool")
+    public HikariDataSource dataSource() {
+        return new HikariDataSource();
+    }
+}
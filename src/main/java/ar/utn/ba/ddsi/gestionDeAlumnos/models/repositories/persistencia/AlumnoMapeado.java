@@ -0,0 +1,85 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+
+import java.lang.ref.SoftReference;
+import java.util.List;
+
+// Vista de solo lectura sobre un registro del padrón mapeado en memoria. Siempre se retiene el
+// legajo; el resto del registro se decodifica entero la primera vez que se lee cualquier campo y
+// queda en una referencia soft: las lecturas siguientes no vuelven a decodificar y, si falta
+// memoria, el GC puede soltar la copia y se decodifica otra vez.
+public class AlumnoMapeado extends Alumno {
+    private final PadronMapeado padron;
+    private final int numeroDeRegistro;
+    private final String legajo;
+    private volatile SoftReference<Campos> campos;
+
+    AlumnoMapeado(PadronMapeado padron, int numeroDeRegistro, String legajo) {
+        super(null);
+        this.padron = padron;
+        this.numeroDeRegistro = numeroDeRegistro;
+        this.legajo = legajo;
+    }
+
+    @Override
+    public String getLegajo() {
+        return legajo;
+    }
+
+    @Override
+    public String getNombre() {
+        return campos().nombre();
+    }
+
+    @Override
+    public String getApellido() {
+        return campos().apellido();
+    }
+
+    @Override
+    public List<Contacto> getContactos() {
+        return campos().contactos();
+    }
+
+    // Dos hilos pueden decodificar el mismo registro a la vez; cualquiera de las copias sirve
+    private Campos campos() {
+        SoftReference<Campos> referencia = campos;
+        Campos decodificados = referencia == null ? null : referencia.get();
+        if (decodificados == null) {
+            decodificados = padron.leerCampos(numeroDeRegistro);
+            campos = new SoftReference<>(decodificados);
+        }
+        return decodificados;
+    }
+
+    @Override
+    public void setLegajo(String legajo) {
+        throw new UnsupportedOperationException("Los alumnos del padrón mapeado son de solo lectura");
+    }
+
+    @Override
+    public void setNombre(String nombre) {
+        throw new UnsupportedOperationException("Los alumnos del padrón mapeado son de solo lectura");
+    }
+
+    @Override
+    public void setApellido(String apellido) {
+        throw new UnsupportedOperationException("Los alumnos del padrón mapeado son de solo lectura");
+    }
+
+    @Override
+    public void setContactos(List<Contacto> contactos) {
+        throw new UnsupportedOperationException("Los alumnos del padrón mapeado son de solo lectura");
+    }
+
+    @Override
+    public void agregarContacto(Contacto contacto) {
+        throw new UnsupportedOperationException("Los alumnos del padrón mapeado son de solo lectura");
+    }
+
+    // La lista de contactos es inmutable: la comparten todas las lecturas de la vista
+    record Campos(String nombre, String apellido, List<Contacto> contactos) {
+    }
+}
@@ -0,0 +1,47 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// Formato binario compacto de un alumno, compartido por el log y los snapshots
+final class CodificadorDeAlumnos {
+    private static final TipoContacto[] TIPOS = TipoContacto.values();
+
+    private CodificadorDeAlumnos() {
+    }
+
+    static void escribir(DataOutput salida, Alumno alumno) throws IOException {
+        salida.writeUTF(alumno.getLegajo());
+        salida.writeLong(alumno.getVersion());
+        salida.writeUTF(alumno.getNombre());
+        salida.writeUTF(alumno.getApellido());
+        salida.writeShort(alumno.getContactos().size());
+        for (Contacto contacto : alumno.getContactos()) {
+            salida.writeLong(contacto.getId());
+            salida.writeByte(contacto.getTipoContacto().ordinal());
+            salida.writeUTF(contacto.getValor());
+        }
+    }
+
+    static Alumno leer(DataInput entrada) throws IOException {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(entrada.readUTF());
+        alumno.setVersion(entrada.readLong());
+        alumno.setNombre(entrada.readUTF());
+        alumno.setApellido(entrada.readUTF());
+        int cantidadDeContactos = entrada.readUnsignedShort();
+        for (int i = 0; i < cantidadDeContactos; i++) {
+            Contacto contacto = new Contacto();
+            contacto.setId(entrada.readLong());
+            contacto.setTipoContacto(TIPOS[entrada.readUnsignedByte()]);
+            contacto.setValor(entrada.readUTF());
+            alumno.agregarContacto(contacto);
+        }
+        return alumno;
+    }
+}
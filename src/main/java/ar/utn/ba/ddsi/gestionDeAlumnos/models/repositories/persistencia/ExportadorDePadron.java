@@ -0,0 +1,41 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// Al arrancar con alumnos.padron.exportar=<ruta> vuelca el padrón actual al formato mapeado,
+// para usarlo después con alumnos.padron.archivo. Los alumnos que no entran en un registro se
+// informan y quedan afuera: no impiden arrancar.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "alumnos.padron.exportar")
+public class ExportadorDePadron implements ApplicationRunner {
+    private static final int LEGAJOS_INFORMADOS = 50;
+
+    private final AlumnosRepository alumnosRepository;
+
+    @Value("${alumnos.padron.exportar}")
+    private String archivo;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var alumnos = alumnosRepository.findAll();
+        List<String> omitidos = PadronMapeado.escribir(Path.of(archivo), alumnos);
+        log.info("Padrón de {} alumnos exportado a {}", alumnos.size() - omitidos.size(), archivo);
+        if (!omitidos.isEmpty()) {
+            log.warn("{} alumnos no entran en un registro del padrón (más de {} contactos o campos demasiado largos) "
+                    + "y no se exportaron: {}", omitidos.size(), PadronMapeado.MAXIMO_DE_CONTACTOS,
+                    omitidos.subList(0, Math.min(omitidos.size(), LEGAJOS_INFORMADOS)));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Padrón de alumnos en un archivo de registros de tamaño fijo, mapeado en memoria.
+// El registro i empieza en CABECERA + i * TAMANIO_DE_REGISTRO: cada alumno es una vista que
+// decodifica al leer (ver AlumnoMapeado).
+//
+// Lo que se ahorra es el grafo de entidades por alumno, no todo el costo de arrancar: los índices
+// de orden, de búsqueda y de contactos leen cada registro una vez al cargarse y retienen sus
+// claves (legajo, apellido y nombre normalizados, términos, emails y teléfonos). El arranque sigue
+// siendo lineal en el tamaño del padrón y el heap retiene esas claves; lo decodificado para
+// armarlas queda en referencias soft que el GC puede soltar.
+//
+// Registro: legajo(24) version(8) nombre(60) apellido(60) cantidadDeContactos(1)
+//           y MAXIMO_DE_CONTACTOS x [id(8) tipo(1) valor(80)]
+// Cada texto se guarda como un byte de longitud seguido de los bytes UTF-8.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "alumnos.padron.archivo")
+public class PadronMapeado {
+    public static final int MAXIMO_DE_CONTACTOS = 4;
+
+    private static final int MAGIA = 0x50414432; // "PAD2"
+    private static final int CABECERA = 64;
+    private static final int LEGAJO = 24;
+    private static final int VERSION = 8;
+    private static final int NOMBRE = 60;
+    private static final int APELLIDO = 60;
+    private static final int VALOR_DE_CONTACTO = 80;
+    private static final int CONTACTO = 8 + 1 + VALOR_DE_CONTACTO;
+    private static final int TAMANIO_DE_REGISTRO = 512; // 509 usados, el resto es relleno
+    private static final int DESPLAZAMIENTO_VERSION = LEGAJO;
+    private static final int DESPLAZAMIENTO_NOMBRE = DESPLAZAMIENTO_VERSION + VERSION;
+    private static final int DESPLAZAMIENTO_APELLIDO = DESPLAZAMIENTO_NOMBRE + NOMBRE;
+    private static final int DESPLAZAMIENTO_CONTACTOS = DESPLAZAMIENTO_APELLIDO + APELLIDO;
+    // Un MappedByteBuffer no puede superar los 2 GB, así que el archivo se mapea en tramos
+    private static final int REGISTROS_POR_TRAMO = (Integer.MAX_VALUE - CABECERA) / TAMANIO_DE_REGISTRO;
+    private static final TipoContacto[] TIPOS = TipoContacto.values();
+
+    private final List<MappedByteBuffer> tramos = new ArrayList<>();
+    @Getter
+    private final int cantidad;
+    @Getter
+    private final long maximoIdDeContacto;
+
+    public PadronMapeado(@Value("${alumnos.padron.archivo}") String archivo) {
+        Path ruta = Path.of(archivo);
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, CABECERA);
+            if (cabecera.getInt(0) != MAGIA || cabecera.getInt(4) != TAMANIO_DE_REGISTRO) {
+                throw new IllegalStateException("El archivo " + ruta + " no es un padrón de alumnos");
+            }
+            this.cantidad = cabecera.getInt(8);
+            this.maximoIdDeContacto = cabecera.getLong(12);
+
+            for (int primero = 0; primero < cantidad; primero += REGISTROS_POR_TRAMO) {
+                int registros = Math.min(REGISTROS_POR_TRAMO, cantidad - primero);
+                long desde = CABECERA + (long) primero * TAMANIO_DE_REGISTRO;
+                tramos.add(canal.map(FileChannel.MapMode.READ_ONLY, desde, (long) registros * TAMANIO_DE_REGISTRO));
+            }
+            log.info("Padrón mapeado {} con {} alumnos", ruta, cantidad);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mapear el padrón " + ruta, e);
+        }
+    }
+
+    // Solo decodifica el legajo, que es la clave del índice primario
+    public void recorrer(Consumer<Alumno> alLeer) {
+        for (int i = 0; i < cantidad; i++) {
+            AlumnoMapeado alumno = new AlumnoMapeado(this, i, leerTexto(i, 0));
+            alumno.setVersion(tramoDe(i).getLong(posicionEnTramo(i) + DESPLAZAMIENTO_VERSION));
+            alLeer.accept(alumno);
+        }
+    }
+
+    // Decodifica de una vez todo el registro salvo el legajo, que la vista ya tiene
+    AlumnoMapeado.Campos leerCampos(int registro) {
+        ByteBuffer tramo = tramoDe(registro);
+        int inicio = posicionEnTramo(registro);
+        int base = inicio + DESPLAZAMIENTO_CONTACTOS;
+        int cantidadDeContactos = tramo.get(base);
+        List<Contacto> contactos = new ArrayList<>(cantidadDeContactos);
+        for (int i = 0; i < cantidadDeContactos; i++) {
+            int posicion = base + 1 + i * CONTACTO;
+            Contacto contacto = new Contacto();
+            contacto.setId(tramo.getLong(posicion));
+            contacto.setTipoContacto(TIPOS[tramo.get(posicion + 8)]);
+            contacto.setValor(leerTexto(tramo, posicion + 9));
+            contactos.add(contacto);
+        }
+        return new AlumnoMapeado.Campos(leerTexto(tramo, inicio + DESPLAZAMIENTO_NOMBRE),
+                leerTexto(tramo, inicio + DESPLAZAMIENTO_APELLIDO), List.copyOf(contactos));
+    }
+
+    // Los alumnos que no entran en un registro (más contactos o textos más largos que los
+    // campos) quedan afuera del archivo; devuelve sus legajos
+    public static List<String> escribir(Path ruta, Collection<Alumno> alumnos) throws IOException {
+        Path temporal = ruta.resolveSibling(ruta.getFileName() + ".tmp");
+        List<Alumno> incluidos = new ArrayList<>(alumnos.size());
+        List<String> omitidos = new ArrayList<>();
+        for (Alumno alumno : alumnos) {
+            if (entra(alumno)) {
+                incluidos.add(alumno);
+            } else {
+                omitidos.add(alumno.getLegajo());
+            }
+        }
+        long maximoIdDeContacto = 0;
+        for (Alumno alumno : incluidos) {
+            for (Contacto contacto : alumno.getContactos()) {
+                maximoIdDeContacto = Math.max(maximoIdDeContacto, contacto.getId());
+            }
+        }
+
+        try (OutputStream archivo = Files.newOutputStream(temporal);
+             DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(archivo, 1 << 20))) {
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA);
+            cabecera.putInt(MAGIA).putInt(TAMANIO_DE_REGISTRO).putInt(incluidos.size()).putLong(maximoIdDeContacto);
+            salida.write(cabecera.array());
+
+            ByteBuffer registro = ByteBuffer.allocate(TAMANIO_DE_REGISTRO);
+            for (Alumno alumno : incluidos) {
+                codificar(registro, alumno);
+                salida.write(registro.array());
+            }
+        }
+        Files.move(temporal, ruta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return omitidos;
+    }
+
+    private static boolean entra(Alumno alumno) {
+        List<Contacto> contactos = alumno.getContactos();
+        return contactos.size() <= MAXIMO_DE_CONTACTOS
+                && entra(alumno.getLegajo(), LEGAJO)
+                && entra(alumno.getNombre(), NOMBRE)
+                && entra(alumno.getApellido(), APELLIDO)
+                && contactos.stream().allMatch(contacto -> entra(contacto.getValor(), VALOR_DE_CONTACTO));
+    }
+
+    // Un byte de la capacidad es el de la longitud
+    private static boolean entra(String texto, int capacidad) {
+        return texto.getBytes(StandardCharsets.UTF_8).length <= capacidad - 1;
+    }
+
+    private static void codificar(ByteBuffer registro, Alumno alumno) {
+        List<Contacto> contactos = alumno.getContactos();
+        Arrays.fill(registro.array(), (byte) 0);
+        escribirTexto(registro, 0, alumno.getLegajo());
+        registro.putLong(DESPLAZAMIENTO_VERSION, alumno.getVersion());
+        escribirTexto(registro, DESPLAZAMIENTO_NOMBRE, alumno.getNombre());
+        escribirTexto(registro, DESPLAZAMIENTO_APELLIDO, alumno.getApellido());
+        registro.put(DESPLAZAMIENTO_CONTACTOS, (byte) contactos.size());
+        for (int i = 0; i < contactos.size(); i++) {
+            Contacto contacto = contactos.get(i);
+            int posicion = DESPLAZAMIENTO_CONTACTOS + 1 + i * CONTACTO;
+            registro.putLong(posicion, contacto.getId());
+            registro.put(posicion + 8, (byte) contacto.getTipoContacto().ordinal());
+            escribirTexto(registro, posicion + 9, contacto.getValor());
+        }
+    }
+
+    private static void escribirTexto(ByteBuffer registro, int posicion, String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        registro.put(posicion, (byte) bytes.length);
+        registro.put(posicion + 1, bytes);
+    }
+
+    private String leerTexto(int registro, int desplazamiento) {
+        return leerTexto(tramoDe(registro), posicionEnTramo(registro) + desplazamiento);
+    }
+
+    private static String leerTexto(ByteBuffer tramo, int posicion) {
+        byte[] bytes = new byte[Byte.toUnsignedInt(tramo.get(posicion))];
+        tramo.get(posicion + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer tramoDe(int registro) {
+        return tramos.get(registro / REGISTROS_POR_TRAMO);
+    }
+
+    private int posicionEnTramo(int registro) {
+        return (registro % REGISTROS_POR_TRAMO) * TAMANIO_DE_REGISTRO;
+    }
+}
@@ -0,0 +1,302 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.PersistenciaNoDisponibleException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Modo durable del repositorio: cada alta/modificación/baja se agrega al log de escritura
+// y cada tanto se escribe un snapshot binario completo. Al arrancar se carga el último
+// snapshot y se reproducen los segmentos del log posteriores a él.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "alumnos.persistencia.modo", havingValue = "durable")
+public class PersistenciaDeAlumnos {
+    private static final byte GUARDADO = 1;
+    private static final byte ELIMINACION = 2;
+    private static final byte RENOMBRAMIENTO = 3;
+    private static final byte LOTE = 4;
+    private static final int MAGIA_SNAPSHOT = 0x414C5532; // "ALU2"
+    private static final String SNAPSHOT = "alumnos.snapshot";
+
+    private final Path directorio;
+    private final long snapshotCada;
+    private final RegistroDeEscritura registro;
+    private final AtomicLong escriturasDesdeSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotEnCurso = new AtomicBoolean();
+    private final ExecutorService ejecutorDeSnapshots = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "alumnos-snapshot");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    private Supplier<Collection<Alumno>> estadoActual;
+
+    public PersistenciaDeAlumnos(@Value("${alumnos.persistencia.directorio:data}") String directorio,
+                                 @Value("${alumnos.persistencia.snapshot-cada:50000}") long snapshotCada,
+                                 @Value("${alumnos.persistencia.lote-maximo:1024}") int loteMaximo) throws IOException {
+        this.directorio = Path.of(directorio);
+        this.snapshotCada = snapshotCada;
+        this.registro = new RegistroDeEscritura(this.directorio, loteMaximo, this::alEscribirLote);
+        Files.createDirectories(this.directorio);
+    }
+
+    // Devuelve false si no había nada persistido
+    public boolean recuperar(Consumer<Alumno> alGuardar, Consumer<String> alEliminar,
+                             BiConsumer<String, Alumno> alRenombrar) {
+        try {
+            long inicio = System.nanoTime();
+            long desdeSegmento = cargarSnapshot(alGuardar);
+            boolean habiaSnapshot = desdeSegmento >= 0;
+            AtomicLong reproducidas = new AtomicLong();
+
+            registro.reproducir(Math.max(desdeSegmento, 0), datos -> {
+                aplicar(datos, alGuardar, alEliminar, alRenombrar);
+                reproducidas.incrementAndGet();
+            });
+            escriturasDesdeSnapshot.set(reproducidas.get());
+
+            log.info("Alumnos recuperados en {} ms ({} entradas de log reproducidas)",
+                    (System.nanoTime() - inicio) / 1_000_000, reproducidas.get());
+            return habiaSnapshot || reproducidas.get() > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron recuperar los alumnos persistidos", e);
+        }
+    }
+
+    public boolean tieneSnapshot() {
+        return Files.exists(directorio.resolve(SNAPSHOT));
+    }
+
+    public void iniciar(Supplier<Collection<Alumno>> estadoActual) {
+        this.estadoActual = estadoActual;
+        try {
+            List<Long> segmentos = registro.segmentos();
+            long siguiente = segmentos.isEmpty() ? 0 : segmentos.get(segmentos.size() - 1) + 1;
+            registro.iniciar(siguiente);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el log de escritura", e);
+        }
+    }
+
+    // Después de una falla del log no se aceptan escrituras: las que no llegaron a disco siguen
+    // aplicadas en memoria y desaparecen recién al reiniciar
+    public void verificarDisponible() {
+        IOException falla = registro.falla();
+        if (falla != null) {
+            throw new PersistenciaNoDisponibleException(falla);
+        }
+    }
+
+    public CompletableFuture<Void> registrarGuardado(Alumno alumno) {
+        return registro.agregar(codificar(salida -> {
+            salida.writeByte(GUARDADO);
+            CodificadorDeAlumnos.escribir(salida, alumno);
+        }));
+    }
+
+    public CompletableFuture<Void> registrarEliminacion(String legajo) {
+        return registro.agregar(codificar(salida -> {
+            salida.writeByte(ELIMINACION);
+            salida.writeUTF(legajo);
+        }));
+    }
+
+    public CompletableFuture<Void> registrarRenombramiento(String legajoAnterior, Alumno alumno) {
+        return registro.agregar(codificar(salida -> {
+            salida.writeByte(RENOMBRAMIENTO);
+            salida.writeUTF(legajoAnterior);
+            CodificadorDeAlumnos.escribir(salida, alumno);
+        }));
+    }
+
+    // Todo el lote va en una sola entrada: al recuperar se reproduce completo o no se reproduce.
+    // Los legajos de un lote no se repiten, así que el orden entre sus partes no importa. Se
+    // codifica aparte de registrarla para que el repositorio pueda fallar antes de aplicar nada.
+    public byte[] codificarLote(Collection<Alumno> guardados, Collection<String> eliminados,
+                                Map<String, Alumno> renombrados) {
+        return codificar(salida -> {
+            salida.writeByte(LOTE);
+            salida.writeInt(guardados.size() + eliminados.size() + renombrados.size());
+            for (Alumno alumno : guardados) {
+                salida.writeByte(GUARDADO);
+                CodificadorDeAlumnos.escribir(salida, alumno);
+            }
+            for (String legajo : eliminados) {
+                salida.writeByte(ELIMINACION);
+                salida.writeUTF(legajo);
+            }
+            for (Map.Entry<String, Alumno> renombramiento : renombrados.entrySet()) {
+                salida.writeByte(RENOMBRAMIENTO);
+                salida.writeUTF(renombramiento.getKey());
+                CodificadorDeAlumnos.escribir(salida, renombramiento.getValue());
+            }
+        });
+    }
+
+    public CompletableFuture<Void> registrarLote(byte[] lote) {
+        return registro.agregar(lote);
+    }
+
+    public CompletableFuture<Void> tomarSnapshot() {
+        if (estadoActual == null || !snapshotEnCurso.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // El estado en memoria puede tener escrituras que fallaron: un snapshot las volvería durables
+        if (registro.falla() != null) {
+            snapshotEnCurso.set(false);
+            log.warn("No se toma el snapshot de alumnos: el log de escritura falló");
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                // Todo lo escrito en segmentos anteriores ya está aplicado en memoria
+                long segmento = registro.rotar().join();
+                escribirSnapshot(segmento, estadoActual.get());
+                registro.borrarSegmentosAnterioresA(segmento);
+            } catch (IOException e) {
+                log.error("No se pudo escribir el snapshot de alumnos", e);
+            } finally {
+                snapshotEnCurso.set(false);
+            }
+        }, ejecutorDeSnapshots);
+    }
+
+    @PreDestroy
+    public void cerrar() throws IOException {
+        tomarSnapshot().join();
+        ejecutorDeSnapshots.shutdown();
+        registro.cerrar();
+    }
+
+    private void alEscribirLote(int cantidad) {
+        if (escriturasDesdeSnapshot.addAndGet(cantidad) >= snapshotCada) {
+            escriturasDesdeSnapshot.set(0);
+            tomarSnapshot();
+        }
+    }
+
+    private void aplicar(byte[] datos, Consumer<Alumno> alGuardar, Consumer<String> alEliminar,
+                         BiConsumer<String, Alumno> alRenombrar) {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(datos))) {
+            byte tipo = entrada.readByte();
+            if (tipo == LOTE) {
+                int cantidad = entrada.readInt();
+                for (int i = 0; i < cantidad; i++) {
+                    aplicar(entrada.readByte(), entrada, alGuardar, alEliminar, alRenombrar);
+                }
+            } else {
+                aplicar(tipo, entrada, alGuardar, alEliminar, alRenombrar);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void aplicar(byte tipo, DataInputStream entrada, Consumer<Alumno> alGuardar, Consumer<String> alEliminar,
+                         BiConsumer<String, Alumno> alRenombrar) throws IOException {
+        if (tipo == GUARDADO) {
+            alGuardar.accept(CodificadorDeAlumnos.leer(entrada));
+        } else if (tipo == ELIMINACION) {
+            alEliminar.accept(entrada.readUTF());
+        } else if (tipo == RENOMBRAMIENTO) {
+            String legajoAnterior = entrada.readUTF();
+            alRenombrar.accept(legajoAnterior, CodificadorDeAlumnos.leer(entrada));
+        }
+    }
+
+    private void escribirSnapshot(long desdeSegmento, Collection<Alumno> alumnos) throws IOException {
+        Path temporal = directorio.resolve(SNAPSHOT + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream archivo = Files.newOutputStream(temporal);
+             DataOutputStream salida = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(archivo, 1 << 20), crc))) {
+            salida.writeInt(MAGIA_SNAPSHOT);
+            salida.writeLong(desdeSegmento);
+            salida.writeInt(alumnos.size());
+            for (Alumno alumno : alumnos) {
+                CodificadorDeAlumnos.escribir(salida, alumno);
+            }
+            salida.flush();
+            new DataOutputStream(archivo).writeLong(crc.getValue());
+        }
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+            canal.force(true);
+        }
+        Files.move(temporal, directorio.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Snapshot de {} alumnos escrito (log desde el segmento {})", alumnos.size(), desdeSegmento);
+    }
+
+    // Devuelve el segmento del log desde el que hay que reproducir, o -1 si no hay snapshot
+    private long cargarSnapshot(Consumer<Alumno> alGuardar) throws IOException {
+        Path snapshot = directorio.resolve(SNAPSHOT);
+        if (!Files.exists(snapshot)) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream archivo = new BufferedInputStream(Files.newInputStream(snapshot), 1 << 20);
+             DataInputStream entrada = new DataInputStream(new CheckedInputStream(archivo, crc))) {
+            if (entrada.readInt() != MAGIA_SNAPSHOT) {
+                throw new IOException("El archivo " + snapshot + " no es un snapshot de alumnos");
+            }
+            long desdeSegmento = entrada.readLong();
+            int cantidad = entrada.readInt();
+            for (int i = 0; i < cantidad; i++) {
+                alGuardar.accept(CodificadorDeAlumnos.leer(entrada));
+            }
+            long esperado = crc.getValue();
+            if (new DataInputStream(archivo).readLong() != esperado) {
+                throw new IOException("El snapshot " + snapshot + " está corrupto");
+            }
+            return desdeSegmento;
+        }
+    }
+
+    private byte[] codificar(Escritura escritura) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream salida = new DataOutputStream(bytes);
+            escritura.escribir(salida);
+            salida.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        void escribir(DataOutputStream salida) throws IOException;
+    }
+}
@@ -0,0 +1,269 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.PersistenciaNoDisponibleException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Log de escritura anticipada en segmentos (wal-<n>.log). Un único hilo escritor
+// agrupa las entradas pendientes y hace un solo fsync por lote (group commit).
+// Si falla una escritura o un fsync el log deja de aceptar entradas: lo que ya está en memoria
+// puede no estar en disco, así que seguir escribiendo encima daría un estado que no se recupera.
+@Slf4j
+class RegistroDeEscritura {
+    private static final String PREFIJO = "wal-";
+    private static final String SUFIJO = ".log";
+    private static final int LONGITUD_MAXIMA = 16 * 1024 * 1024;
+
+    private final Path directorio;
+    private final int loteMaximo;
+    private final BlockingQueue<Pendiente> pendientes = new LinkedBlockingQueue<>();
+    private final Consumer<Integer> alEscribirLote;
+    private final AperturaDeSegmento apertura;
+    private FileChannel canal;
+    private long segmentoActual;
+    // Bytes del segmento actual que ya pasaron por un fsync
+    private long confirmado;
+    private volatile IOException falla;
+    private volatile boolean activo;
+    private Thread escritor;
+
+    RegistroDeEscritura(Path directorio, int loteMaximo, Consumer<Integer> alEscribirLote) {
+        this(directorio, loteMaximo, alEscribirLote, ruta -> FileChannel.open(ruta,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    RegistroDeEscritura(Path directorio, int loteMaximo, Consumer<Integer> alEscribirLote, AperturaDeSegmento apertura) {
+        this.directorio = directorio;
+        this.loteMaximo = loteMaximo;
+        this.alEscribirLote = alEscribirLote;
+        this.apertura = apertura;
+    }
+
+    List<Long> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.map(archivo -> archivo.getFileName().toString())
+                    .filter(nombre -> nombre.startsWith(PREFIJO) && nombre.endsWith(SUFIJO))
+                    .map(nombre -> Long.parseLong(nombre.substring(PREFIJO.length(), nombre.length() - SUFIJO.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // Recorre las entradas de los segmentos desde el indicado. Una entrada incompleta o con
+    // CRC inválido marca el final de lo que llegó a disco en ese segmento.
+    void reproducir(long desdeSegmento, Consumer<byte[]> alLeer) throws IOException {
+        for (long segmento : segmentos()) {
+            if (segmento < desdeSegmento) {
+                continue;
+            }
+            try (InputStream archivo = new BufferedInputStream(Files.newInputStream(rutaDe(segmento)), 1 << 16);
+                 DataInputStream entrada = new DataInputStream(archivo)) {
+                byte[] datos;
+                while ((datos = leerEntrada(entrada)) != null) {
+                    alLeer.accept(datos);
+                }
+            }
+        }
+    }
+
+    void iniciar(long segmento) throws IOException {
+        abrirSegmento(segmento);
+        activo = true;
+        escritor = new Thread(this::escribirLotes, "alumnos-wal");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    // La causa por la que el log dejó de aceptar entradas, o null si sigue disponible
+    IOException falla() {
+        return falla;
+    }
+
+    CompletableFuture<Void> agregar(byte[] datos) {
+        if (falla != null) {
+            return CompletableFuture.failedFuture(new PersistenciaNoDisponibleException(falla));
+        }
+        Pendiente pendiente = new Pendiente(datos);
+        pendientes.add(pendiente);
+        return pendiente.confirmacion.thenApply(segmento -> null);
+    }
+
+    // Cierra el segmento actual y abre uno nuevo; devuelve el número del nuevo segmento
+    CompletableFuture<Long> rotar() {
+        Pendiente rotacion = new Pendiente(null);
+        pendientes.add(rotacion);
+        return rotacion.confirmacion;
+    }
+
+    void borrarSegmentosAnterioresA(long segmento) throws IOException {
+        for (long existente : segmentos()) {
+            if (existente < segmento) {
+                Files.deleteIfExists(rutaDe(existente));
+            }
+        }
+    }
+
+    void cerrar() throws IOException {
+        activo = false;
+        if (escritor != null) {
+            try {
+                escritor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (canal != null) {
+            canal.close();
+        }
+    }
+
+    private void escribirLotes() {
+        List<Pendiente> lote = new ArrayList<>(loteMaximo);
+        while (activo || !pendientes.isEmpty()) {
+            try {
+                Pendiente primero = pendientes.poll(100, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                lote.add(primero);
+                pendientes.drainTo(lote, loteMaximo - 1);
+                procesar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void procesar(List<Pendiente> lote) {
+        if (falla != null) {
+            lote.forEach(pendiente -> pendiente.confirmacion.completeExceptionally(new PersistenciaNoDisponibleException(falla)));
+            return;
+        }
+        List<Pendiente> escritas = new ArrayList<>(lote.size());
+        try {
+            for (Pendiente pendiente : lote) {
+                if (pendiente.datos != null) {
+                    escribir(pendiente.datos);
+                    escritas.add(pendiente);
+                    continue;
+                }
+                // Rotación: lo anterior queda confirmado en el segmento viejo
+                confirmar(escritas);
+                abrirSegmento(segmentoActual + 1);
+                pendiente.confirmacion.complete(segmentoActual);
+            }
+            confirmar(escritas);
+        } catch (IOException e) {
+            falla = e;
+            log.error("Falló el log de escritura de alumnos; no se aceptan más escrituras", e);
+            descartarSinConfirmar();
+            // Las ya confirmadas no cambian: completar de nuevo un future no tiene efecto
+            lote.forEach(pendiente -> pendiente.confirmacion.completeExceptionally(new PersistenciaNoDisponibleException(e)));
+        }
+    }
+
+    // Lo escrito después del último fsync no se confirmó a nadie: se corta el segmento ahí para que
+    // no reaparezca al reiniciar ni quede un registro a medias en el medio del segmento. Al reiniciar
+    // se escribe en un segmento nuevo, así que nada se agrega detrás de este.
+    private void descartarSinConfirmar() {
+        try {
+            canal.truncate(confirmado);
+            canal.force(true);
+        } catch (IOException e) {
+            log.error("No se pudo recortar el segmento {} hasta el byte {}: al reiniciar puede reaparecer "
+                    + "lo escrito sin confirmar", segmentoActual, confirmado, e);
+        }
+    }
+
+    private void confirmar(List<Pendiente> escritas) throws IOException {
+        if (escritas.isEmpty()) {
+            return;
+        }
+        canal.force(false);
+        confirmado = canal.position();
+        escritas.forEach(pendiente -> pendiente.confirmacion.complete(segmentoActual));
+        alEscribirLote.accept(escritas.size());
+        escritas.clear();
+    }
+
+    private void escribir(byte[] datos) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(datos.length + 8);
+        buffer.putInt(datos.length).put(datos).putInt(crcDe(datos)).flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    private void abrirSegmento(long segmento) throws IOException {
+        if (canal != null) {
+            canal.force(true);
+        }
+        FileChannel nuevo = apertura.abrir(rutaDe(segmento));
+        if (canal != null) {
+            canal.close();
+        }
+        canal = nuevo;
+        segmentoActual = segmento;
+        confirmado = canal.size();
+    }
+
+    private Path rutaDe(long segmento) {
+        return directorio.resolve(String.format("%s%020d%s", PREFIJO, segmento, SUFIJO));
+    }
+
+    private static byte[] leerEntrada(DataInputStream entrada) throws IOException {
+        try {
+            int longitud = entrada.readInt();
+            if (longitud < 0 || longitud > LONGITUD_MAXIMA) {
+                return null;
+            }
+            byte[] datos = new byte[longitud];
+            entrada.readFully(datos);
+            return entrada.readInt() == crcDe(datos) ? datos : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static int crcDe(byte[] datos) {
+        CRC32 crc = new CRC32();
+        crc.update(datos);
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface AperturaDeSegmento {
+        FileChannel abrir(Path ruta) throws IOException;
+    }
+
+    private static final class Pendiente {
+        private final byte[] datos;
+        private final CompletableFuture<Long> confirmacion = new CompletableFuture<>();
+
+        private Pendiente(byte[] datos) {
+            this.datos = datos;
+        }
+    }
+}
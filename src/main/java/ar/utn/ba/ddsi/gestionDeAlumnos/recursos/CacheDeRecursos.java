@@ -0,0 +1,40 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.recursos;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Una URL con el hash del contenido nunca cambia de contenido (si el hash no coincide el recurso
+// no se encuentra): se cachea un año sin revalidar. Sin hash (un enlace viejo o escrito a mano)
+// el navegador revalida en cada uso con Last-Modified. Solo se aplica a respuestas encontradas.
+class CacheDeRecursos extends AbstractResourceResolver {
+    private static final Pattern CON_HASH = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+    private static final String INMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDAR = CacheControl.noCache().getHeaderValue();
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String ruta, List<? extends Resource> ubicaciones,
+                                               ResourceResolverChain cadena) {
+        Resource recurso = cadena.resolveResource(request, ruta, ubicaciones);
+        if (recurso == null || request == null) {
+            return recurso;
+        }
+        String cache = CON_HASH.matcher(ruta).find() ? INMUTABLE : REVALIDAR;
+        // La variante sin comprimir también depende de Accept-Encoding: sin Vary un proxy podría
+        // guardarla y dársela a quien sí acepta gzip, o guardar la comprimida para quien no
+        Resource conCache = RecursoHttp.conEncabezado(recurso, HttpHeaders.CACHE_CONTROL, cache);
+        return RecursoHttp.conEncabezado(conCache, HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String ruta, List<? extends Resource> ubicaciones, ResourceResolverChain cadena) {
+        return cadena.resolveUrlPath(ruta, ubicaciones);
+    }
+}
@@ -0,0 +1,77 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.recursos;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Variante gzip de cada recurso estático, comprimida una sola vez con el nivel máximo y guardada
+// en memoria: las respuestas siguientes solo copian bytes. Los recursos chicos, o los que no se
+// achican, se sirven sin comprimir.
+class CompresorDeRecursos extends AbstractResourceResolver {
+    private static final int TAMANIO_MINIMO = 1024;
+
+    private final ConcurrentHashMap<Resource, Optional<RecursoHttp>> comprimidos = new ConcurrentHashMap<>();
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String ruta, List<? extends Resource> ubicaciones,
+                                               ResourceResolverChain cadena) {
+        Resource recurso = cadena.resolveResource(request, ruta, ubicaciones);
+        if (recurso == null || request == null || !aceptaGzip(request)) {
+            return recurso;
+        }
+        return comprimidos.computeIfAbsent(recurso, this::comprimir).map(Resource.class::cast).orElse(recurso);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String ruta, List<? extends Resource> ubicaciones, ResourceResolverChain cadena) {
+        return cadena.resolveUrlPath(ruta, ubicaciones);
+    }
+
+    private Optional<RecursoHttp> comprimir(Resource recurso) {
+        try (InputStream entrada = recurso.getInputStream()) {
+            byte[] original = entrada.readAllBytes();
+            if (original.length < TAMANIO_MINIMO) {
+                return Optional.empty();
+            }
+            ByteArrayOutputStream comprimido = new ByteArrayOutputStream(original.length / 2);
+            try (OutputStream salida = new GZIPOutputStream(comprimido) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                salida.write(original);
+            }
+            if (comprimido.size() >= original.length) {
+                return Optional.empty();
+            }
+            HttpHeaders encabezados = new HttpHeaders();
+            if (recurso instanceof HttpResource http) {
+                encabezados.putAll(http.getResponseHeaders());
+            }
+            encabezados.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return Optional.of(new RecursoHttp(recurso, comprimido.toByteArray(), encabezados));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean aceptaGzip(HttpServletRequest request) {
+        String aceptadas = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return aceptadas != null && aceptadas.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+}
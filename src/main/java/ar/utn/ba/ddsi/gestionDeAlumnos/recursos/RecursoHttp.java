@@ -0,0 +1,94 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.recursos;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+// Recurso estático con encabezados propios para la respuesta. Con contenido, reemplaza los bytes
+// del original (la versión comprimida); sin él, se lee el original tal cual.
+class RecursoHttp extends AbstractResource implements HttpResource {
+    private final Resource original;
+    private final byte[] contenido;
+    private final HttpHeaders encabezados;
+
+    RecursoHttp(Resource original, byte[] contenido, HttpHeaders encabezados) {
+        this.original = original;
+        this.contenido = contenido;
+        this.encabezados = encabezados;
+    }
+
+    // Suma un encabezado a los que ya traiga el recurso
+    static RecursoHttp conEncabezado(Resource recurso, String nombre, String valor) {
+        HttpHeaders encabezados = new HttpHeaders();
+        if (recurso instanceof HttpResource http) {
+            encabezados.putAll(http.getResponseHeaders());
+        }
+        encabezados.set(nombre, valor);
+        if (recurso instanceof RecursoHttp propio) {
+            return new RecursoHttp(propio.original, propio.contenido, encabezados);
+        }
+        return new RecursoHttp(recurso, null, encabezados);
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        return encabezados;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return contenido == null ? original.getInputStream() : new ByteArrayInputStream(contenido);
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return contenido == null ? original.contentLength() : contenido.length;
+    }
+
+    @Override
+    public boolean exists() {
+        return original.exists();
+    }
+
+    // El tipo de contenido y el Last-Modified salen del archivo original
+    @Override
+    public String getFilename() {
+        return original.getFilename();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return original.lastModified();
+    }
+
+    @Override
+    public Resource createRelative(String rutaRelativa) throws IOException {
+        return original.createRelative(rutaRelativa);
+    }
+
+    @Override
+    public String getDescription() {
+        return original.getDescription();
+    }
+
+    // AbstractResource compara solo la descripción; la cache del resourceChain confundiría la
+    // variante comprimida con la original y la inmutable con la que se revalida
+    @Override
+    public boolean equals(Object otro) {
+        return otro instanceof RecursoHttp recurso
+                && original.equals(recurso.original)
+                && contenido == recurso.contenido
+                && encabezados.equals(recurso.encabezados);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(original, encabezados);
+    }
+}
@@ -0,0 +1,37 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.recursos;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+// CSS y JS propios con el hash del contenido en la URL: @{/css/style.css} en un template sale
+// como /css/style-<md5>.css. Cada recurso se resuelve, se comprime y se arma una sola vez
+// (resourceChain con cache) y se sirve con Cache-Control inmutable.
+@Configuration
+public class RecursosEstaticosConfig implements WebMvcConfigurer {
+    private static final String[] CARPETAS = {"css", "js"};
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        CacheDeRecursos cache = new CacheDeRecursos();
+        CompresorDeRecursos compresor = new CompresorDeRecursos();
+        VersionResourceResolver versiones = new VersionResourceResolver().addContentVersionStrategy("/**");
+        for (String carpeta : CARPETAS) {
+            registry.addResourceHandler("/" + carpeta + "/**")
+                    .addResourceLocations("classpath:/static/" + carpeta + "/")
+                    .resourceChain(true)
+                    .addResolver(cache)
+                    .addResolver(compresor)
+                    .addResolver(versiones);
+        }
+    }
+
+    // Reescribe las URLs que arma Thymeleaf con la versión correspondiente
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
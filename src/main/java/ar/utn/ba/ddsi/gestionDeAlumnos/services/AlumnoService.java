@@ -3,134 +3,494 @@ package ar.utn.ba.ddsi.gestionDeAlumnos.services;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
 import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AcuseDeEscrituraDTO;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDeCacheDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.OperacionDeLoteDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeImportacionDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeLoteDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeOperacionDTO;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
-import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
 import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OrdenDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Secuencia;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices.IndiceDeBusqueda;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices.IndiceDeContactos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.CacheDeFragmentos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.CacheDeProyecciones;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.cache.LecturasCompartidas;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.escrituras.ColaDeEscrituras;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.escrituras.Escritura;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.eventos.BusDeEventos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones.ErroresDeValidacion;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones.ValidadorDeAlumnos;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 @Service
+@Timed("alumnos.servicio")
 public class AlumnoService {
+    public static final int TAMANIO_DE_PAGINA_POR_DEFECTO = 20;
+    public static final int TAMANIO_DE_PAGINA_MAXIMO = 100;
+    public static final int LIMITE_DE_BUSQUEDA_POR_DEFECTO = 10;
+    public static final int TAMANIO_DE_LOTE_MAXIMO = 10_000;
+    public static final int ESPERA_DE_ESCRITURA_MAXIMA_MS = 30_000;
+
     @Autowired
     private AlumnosRepository alumnosRepository;
+    @Autowired
+    private IndiceDeBusqueda indiceDeBusqueda;
+    @Autowired
+    private IndiceDeContactos indiceDeContactos;
+    @Autowired
+    private CacheDeProyecciones cacheDeProyecciones;
+    @Autowired
+    private CacheDeFragmentos cacheDeFragmentos;
+    @Autowired
+    private LecturasCompartidas lecturasCompartidas;
+    @Autowired
+    private ValidadorDeAlumnos validadorDeAlumnos;
+    @Autowired
+    private BusDeEventos busDeEventos;
+    // Presente con alumnos.escrituras.modo=asincronico
+    @Autowired
+    private Optional<ColaDeEscrituras> colaDeEscrituras;
+
+    @PostConstruct
+    void iniciar() {
+        PublicacionDeCambios publicacion = new PublicacionDeCambios();
+        alumnosRepository.registrarObservador(publicacion);
+        publicacion.activa = true;
+        colaDeEscrituras.ifPresent(cola -> cola.iniciar(this::despuesDeAplicar));
+    }
 
     public List<AlumnoDTO> obtenerTodosLosAlumnos() {
-        return this.alumnosRepository.findAll().stream().map(this::convertirADTO).toList();
+        long versionDelPadron = this.alumnosRepository.getVersionDelPadron();
+        return this.cacheDeProyecciones.obtenerListaCompleta(versionDelPadron,
+                () -> this.alumnosRepository.findAll().stream().map(this::proyectar).toList());
+    }
+
+    public Pagina<AlumnoDTO> obtenerPaginaDeAlumnos(String filtro, String orden, String cursor, Integer tamanio) {
+        int tamanioEfectivo = tamanio == null || tamanio < 1
+                ? TAMANIO_DE_PAGINA_POR_DEFECTO
+                : Math.min(tamanio, TAMANIO_DE_PAGINA_MAXIMO);
+
+        // Solo se convierten a DTO los alumnos de la página pedida; los pedidos simultáneos de la
+        // misma página comparten la lectura
+        OrdenDeAlumnos ordenEfectivo = OrdenDeAlumnos.desde(orden);
+        ConsultaDePagina consulta = new ConsultaDePagina(
+                this.alumnosRepository.getVersionDelPadron(), filtro, ordenEfectivo, cursor, tamanioEfectivo);
+        return this.lecturasCompartidas.compartir(consulta, () -> this.alumnosRepository
+                .findPage(filtro, ordenEfectivo, cursor, tamanioEfectivo)
+                .map(this::proyectar));
+    }
+
+    // Para renderizar el listado completo en streaming: cada fila se proyecta al escribirse
+    public Secuencia<AlumnoDTO> recorrerListado(String filtro, String orden) {
+        return this.alumnosRepository.findAll(filtro, OrdenDeAlumnos.desde(orden)).map(this::proyectar);
+    }
+
+    public List<AlumnoDTO> buscarAlumnos(String consulta, Integer limite) {
+        int limiteEfectivo = limite == null || limite < 1
+                ? LIMITE_DE_BUSQUEDA_POR_DEFECTO
+                : Math.min(limite, TAMANIO_DE_PAGINA_MAXIMO);
+
+        return this.indiceDeBusqueda.buscar(consulta, limiteEfectivo).stream()
+                .map(alumnosRepository::findByLegajo)
+                .flatMap(Optional::stream)
+                .map(this::proyectar)
+                .toList();
+    }
+
+    // Búsqueda exacta por un valor de contacto; el email tiene prioridad si vienen los dos
+    public List<AlumnoDTO> buscarPorContacto(String email, String telefono) {
+        Set<String> legajos;
+        if (email != null && !email.isBlank()) {
+            legajos = this.indiceDeContactos.buscarPorEmail(email);
+        } else if (telefono != null && !telefono.isBlank()) {
+            legajos = this.indiceDeContactos.buscarPorTelefono(telefono);
+        } else {
+            throw new ValidationException("Indicá un email o un teléfono para buscar");
+        }
+
+        return legajos.stream()
+                .map(alumnosRepository::findByLegajo)
+                .flatMap(Optional::stream)
+                .map(this::proyectar)
+                .toList();
+    }
+
+    public long contarAlumnos() {
+        return this.alumnosRepository.count();
     }
 
     public Optional<AlumnoDTO> obtenerAlumnoPorLegajo(String legajo) {
-        Alumno alumno = intentarRecuperarAlumno(legajo);
-        return Optional.of(convertirADTO(alumno));
+        LecturaDeAlumno lectura = new LecturaDeAlumno(this.alumnosRepository.getVersionDelPadron(), legajo.trim());
+        return Optional.of(this.lecturasCompartidas.compartir(lectura, () -> proyectar(intentarRecuperarAlumno(legajo))));
+    }
+
+    public EstadisticasDeCacheDTO obtenerEstadisticasDeCache() {
+        return this.cacheDeProyecciones.estadisticas();
+    }
+
+    public EstadisticasDeCacheDTO obtenerEstadisticasDeFragmentos() {
+        return this.cacheDeFragmentos.estadisticas();
     }
 
     public AlumnoDTO crearAlumno(AlumnoDTO alumnoDTO) {
-        validarDatosBasicos(alumnoDTO);
-        validarContactos(alumnoDTO);
-        validarDuplicidadDeAlumno(alumnoDTO);
+        validadorDeAlumnos.validar(alumnoDTO);
         
+        // El repositorio rechaza el legajo duplicado en la misma operación que da el alta
         Alumno alumno = convertirDTOAEntity(alumnoDTO);
-        alumnosRepository.save(alumno);
-        
+        if (colaDeEscrituras.isPresent()) {
+            return esperar(colaDeEscrituras.get().encolar(OperacionDeLote.alta(alumno)));
+        }
+        alumnosRepository.insert(alumno);
+        invalidarCaches(alumno.getLegajo());
         return convertirADTO(alumno);
     }
 
     public AlumnoDTO actualizarAlumno(String legajo, AlumnoDTO alumnoDTO) {
+        return actualizarAlumno(legajo, alumnoDTO, null);
+    }
+
+    public AlumnoDTO actualizarAlumno(String legajo, AlumnoDTO alumnoDTO, Long versionEsperada) {
         // Verificar que el alumno existe
         intentarRecuperarAlumno(legajo);
         
-        validarDatosBasicos(alumnoDTO);
-        validarContactos(alumnoDTO);
-        
-        // Si el legajo cambió, verificar que no exista otro con el nuevo legajo
-        if (!legajo.equals(alumnoDTO.getLegajo().trim())) {
-            validarDuplicidadDeAlumno(alumnoDTO);
-        }
+        validadorDeAlumnos.validar(alumnoDTO);
         
+        // La versión esperada y el legajo nuevo (si cambió) se verifican de forma atómica al
+        // guardar; un renombramiento mueve el registro sin dejar el legajo anterior
         Alumno alumno = convertirDTOAEntity(alumnoDTO);
-        alumnosRepository.save(alumno);
-        
+        if (colaDeEscrituras.isPresent()) {
+            return esperar(colaDeEscrituras.get().encolar(OperacionDeLote.modificacion(legajo, alumno, versionEsperada)));
+        }
+        alumnosRepository.update(legajo, alumno, versionEsperada);
+        invalidarCaches(legajo);
+        invalidarCaches(alumno.getLegajo());
         return convertirADTO(alumno);
     }
 
-    public void eliminarAlumno(String legajo) {
-        var alumno = intentarRecuperarAlumno(legajo);
-        alumnosRepository.deleteByLegajo(alumno.getLegajo());
+    public boolean admiteEscriturasAsincronicas() {
+        return colaDeEscrituras.isPresent();
     }
 
-    private void validarDatosBasicos(AlumnoDTO alumnoDTO) {
-        ValidationException validationException = new ValidationException("Errores de validación");
-        boolean tieneErrores = false;
+    // Modo asincrónico: se valida acá y se devuelve el acuse sin esperar a que la escritura se aplique
+    public AcuseDeEscrituraDTO encolarCreacion(AlumnoDTO alumnoDTO) {
+        validadorDeAlumnos.validar(alumnoDTO);
+        return acuseDe(obtenerColaDeEscrituras().encolar(OperacionDeLote.alta(convertirDTOAEntity(alumnoDTO))));
+    }
 
-        if (alumnoDTO.getLegajo() == null || alumnoDTO.getLegajo().trim().isEmpty()) {
-            validationException.addFieldError("legajo", "El legajo es obligatorio");
-            tieneErrores = true;
-        }
+    public AcuseDeEscrituraDTO encolarActualizacion(String legajo, AlumnoDTO alumnoDTO, Long versionEsperada) {
+        ColaDeEscrituras cola = obtenerColaDeEscrituras();
+        intentarRecuperarAlumno(legajo);
+        validadorDeAlumnos.validar(alumnoDTO);
+        return acuseDe(cola.encolar(OperacionDeLote.modificacion(legajo, convertirDTOAEntity(alumnoDTO), versionEsperada)));
+    }
 
-        if (alumnoDTO.getNombre() == null || alumnoDTO.getNombre().trim().isEmpty()) {
-            validationException.addFieldError("nombre", "El nombre es obligatorio");
-            tieneErrores = true;
+    // Espera hasta esperaMs a que la escritura se resuelva; si no llega, el acuse sigue pendiente
+    public AcuseDeEscrituraDTO consultarEscritura(long secuencia, Integer esperaMs) {
+        Escritura escritura = colaDeEscrituras.flatMap(cola -> cola.buscar(secuencia))
+                .orElseThrow(() -> new NotFoundException("Escritura", Long.toString(secuencia)));
+        if (esperaMs != null && esperaMs > 0) {
+            try {
+                escritura.getResultado().get(Math.min(esperaMs, ESPERA_DE_ESCRITURA_MAXIMA_MS), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // El acuse refleja el estado en que haya quedado
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+        return acuseDe(escritura);
+    }
 
-        if (alumnoDTO.getApellido() == null || alumnoDTO.getApellido().trim().isEmpty()) {
-            validationException.addFieldError("apellido", "El apellido es obligatorio");
-            tieneErrores = true;
+    // Valida cada fila por separado, detecta legajos repetidos dentro del lote y da de alta todas
+    // las válidas de una sola vez. El repositorio rechaza las que ya existen en la misma operación
+    // que da el alta; como el lote se aplica entero o no se aplica, se vuelve a aplicar sin ellas.
+    public List<ResultadoDeImportacionDTO> importarLote(List<AlumnoDTO> alumnosDTO, List<Integer> filas) {
+        List<ResultadoDeImportacionDTO> resultados = new ArrayList<>(alumnosDTO.size());
+        List<OperacionDeLote> altas = new ArrayList<>(alumnosDTO.size());
+        List<ResultadoDeImportacionDTO> resultadosDeAltas = new ArrayList<>(alumnosDTO.size());
+        Set<String> legajosDelLote = new HashSet<>();
+        List<ErroresDeValidacion> validaciones = validadorDeAlumnos.validarLote(alumnosDTO);
+
+        for (int i = 0; i < alumnosDTO.size(); i++) {
+            AlumnoDTO alumnoDTO = alumnosDTO.get(i);
+            ResultadoDeImportacionDTO resultado = ResultadoDeImportacionDTO.builder()
+                    .fila(filas.get(i))
+                    .legajo(alumnoDTO.getLegajo())
+                    .build();
+            resultados.add(resultado);
+            ErroresDeValidacion errores = validaciones.get(i);
+            if (errores.hayErrores()) {
+                rechazar(resultado, ErroresDeValidacion.MENSAJE).setErrores(errores.getErrores());
+                continue;
+            }
+
+            String legajo = alumnoDTO.getLegajo().trim();
+            if (!legajosDelLote.add(legajo)) {
+                rechazar(resultado, new DuplicateLegajoException(legajo).getMessage());
+                continue;
+            }
+
+            altas.add(OperacionDeLote.alta(convertirDTOAEntity(alumnoDTO)));
+            resultadosDeAltas.add(resultado);
         }
 
-        if (tieneErrores) {
-            throw validationException;
+        while (!altas.isEmpty()) {
+            Map<Integer, RuntimeException> fallas = alumnosRepository.aplicarLote(altas);
+            if (fallas.isEmpty()) {
+                break;
+            }
+            List<OperacionDeLote> siguientes = new ArrayList<>(altas.size() - fallas.size());
+            List<ResultadoDeImportacionDTO> resultadosSiguientes = new ArrayList<>(altas.size() - fallas.size());
+            for (int i = 0; i < altas.size(); i++) {
+                RuntimeException falla = fallas.get(i);
+                if (falla != null) {
+                    rechazar(resultadosDeAltas.get(i), falla.getMessage());
+                } else {
+                    siguientes.add(altas.get(i));
+                    resultadosSiguientes.add(resultadosDeAltas.get(i));
+                }
+            }
+            altas = siguientes;
+            resultadosDeAltas = resultadosSiguientes;
         }
+
+        resultadosDeAltas.forEach(resultado -> resultado.setEstado(ResultadoDeImportacionDTO.Estado.CREADO));
+        // El resultado de la importación no lleva el alumno: alcanza con liberar sus caches
+        altas.forEach(alta -> invalidarCaches(alta.getLegajo()));
+        return resultados;
     }
 
-    private void validarContactos(AlumnoDTO alumnoDTO) {
-        if(alumnoDTO.getContactos().size() == 0) {
-            return;
+    // Altas, modificaciones y bajas mezcladas en una sola pasada: se validan todas, se rechazan
+    // las que repiten un legajo de otra operación del lote y el repositorio verifica existencia
+    // y versiones con los legajos bloqueados. Se aplican todas o ninguna.
+    public ResultadoDeLoteDTO aplicarLote(List<OperacionDeLoteDTO> operacionesDTO) {
+        if (operacionesDTO == null || operacionesDTO.isEmpty()) {
+            throw new ValidationException("El lote no tiene operaciones");
+        }
+        if (operacionesDTO.size() > TAMANIO_DE_LOTE_MAXIMO) {
+            throw new ValidationException("El lote supera las " + TAMANIO_DE_LOTE_MAXIMO + " operaciones");
         }
 
-        ValidationException validationException = new ValidationException("Errores de validación");
-        boolean tieneErrores = false;
+        List<ResultadoDeOperacionDTO> resultados = new ArrayList<>(operacionesDTO.size());
+        List<OperacionDeLote> operaciones = new ArrayList<>(operacionesDTO.size());
+        Map<String, Integer> legajosDelLote = new HashMap<>();
+        boolean hayRechazos = false;
 
-        for(int i = 0; i < alumnoDTO.getContactos().size(); i++) {
-            ContactoDTO contacto = alumnoDTO.getContactos().get(i);
+        for (int i = 0; i < operacionesDTO.size(); i++) {
+            OperacionDeLoteDTO operacionDTO = operacionesDTO.get(i);
+            ResultadoDeOperacionDTO resultado = ResultadoDeOperacionDTO.builder()
+                    .indice(i)
+                    .tipo(operacionDTO == null ? null : operacionDTO.getTipo())
+                    .legajo(legajoDeOperacion(operacionDTO))
+                    .build();
+            resultados.add(resultado);
 
-            // Si el contacto tiene algún campo completado, validar que esté completo
-            boolean tieneTipo = contacto.getTipoContacto() != null;
-            boolean tieneValor = contacto.getValor() != null && !contacto.getValor().trim().isEmpty();
+            ErroresDeValidacion errores = revisarOperacion(operacionDTO);
+            if (errores.hayErrores()) {
+                rechazar(resultado, ErroresDeValidacion.MENSAJE).setErrores(errores.getErrores());
+                hayRechazos = true;
+                continue;
+            }
 
-            if (tieneTipo && !tieneValor) {
-                validationException.addFieldError("contactos[" + i + "].valor", "El valor del contacto es obligatorio");
-                tieneErrores = true;
+            String conflicto = null;
+            for (String legajo : legajosAfectados(operacionDTO)) {
+                Integer anterior = legajosDelLote.putIfAbsent(legajo, i);
+                if (anterior != null && anterior != i && conflicto == null) {
+                    conflicto = "El legajo " + legajo + " ya aparece en la operación " + anterior + " del lote";
+                }
+            }
+            if (conflicto != null) {
+                rechazar(resultado, conflicto);
+                hayRechazos = true;
+                continue;
             }
 
-            if (tieneValor && !tieneTipo) {
-                validationException.addFieldError("contactos[" + i + "].tipoContacto", "El tipo de contacto es obligatorio");
-                tieneErrores = true;
+            operaciones.add(convertirAOperacion(operacionDTO));
+        }
+
+        if (!hayRechazos) {
+            Map<Integer, RuntimeException> fallas = alumnosRepository.aplicarLote(operaciones);
+            fallas.forEach((indice, falla) -> rechazar(resultados.get(indice), falla.getMessage()));
+            hayRechazos = !fallas.isEmpty();
+        }
+        if (hayRechazos) {
+            resultados.stream()
+                    .filter(resultado -> resultado.getEstado() == null)
+                    .forEach(resultado -> resultado.setEstado(ResultadoDeOperacionDTO.Estado.CANCELADO));
+            return ResultadoDeLoteDTO.builder().aplicado(false).resultados(resultados).build();
+        }
+
+        for (int i = 0; i < operaciones.size(); i++) {
+            ResultadoDeOperacionDTO resultado = resultados.get(i);
+            resultado.setEstado(ResultadoDeOperacionDTO.Estado.APLICADO);
+            resultado.setAlumno(despuesDeAplicar(operaciones.get(i)));
+        }
+        return ResultadoDeLoteDTO.builder().aplicado(true).resultados(resultados).build();
+    }
+
+    // Después de guardar una operación: libera las caches del alumno y devuelve el alumno
+    // guardado, o null en las bajas
+    private AlumnoDTO despuesDeAplicar(OperacionDeLote operacion) {
+        invalidarCaches(operacion.getLegajo());
+        if (operacion.getAlumno() == null) {
+            return null;
+        }
+        invalidarCaches(operacion.getAlumno().getLegajo());
+        return convertirADTO(operacion.getAlumno());
+    }
+
+    private ColaDeEscrituras obtenerColaDeEscrituras() {
+        return colaDeEscrituras.orElseThrow(() -> new IllegalStateException("Las escrituras asincrónicas no están habilitadas"));
+    }
+
+    // Los pedidos sincrónicos esperan su turno en la cola y reciben el mismo error que sin ella
+    private AlumnoDTO esperar(Escritura escritura) {
+        try {
+            return escritura.getResultado().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
             }
+            throw e;
+        }
+    }
 
-            // Validar formato de email
-            if (tieneTipo && tieneValor && contacto.getTipoContacto().equals(TipoContacto.EMAIL)) {
-                if (!contacto.getValor().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-                    validationException.addFieldError("contactos[" + i + "].valor", "El formato del email no es válido");
-                    tieneErrores = true;
-                }
+    private AcuseDeEscrituraDTO acuseDe(Escritura escritura) {
+        CompletableFuture<AlumnoDTO> resultado = escritura.getResultado();
+        AcuseDeEscrituraDTO.AcuseDeEscrituraDTOBuilder acuse = AcuseDeEscrituraDTO.builder()
+                .secuencia(escritura.getSecuencia())
+                .legajo(escritura.getOperacion().getLegajo());
+        return switch (resultado.state()) {
+            case RUNNING -> acuse.estado(AcuseDeEscrituraDTO.Estado.PENDIENTE).build();
+            case SUCCESS -> acuse.estado(AcuseDeEscrituraDTO.Estado.APLICADA).alumno(resultado.resultNow()).build();
+            case FAILED -> acuse.estado(AcuseDeEscrituraDTO.Estado.RECHAZADA)
+                    .mensaje(resultado.exceptionNow().getMessage())
+                    .build();
+            case CANCELLED -> acuse.estado(AcuseDeEscrituraDTO.Estado.RECHAZADA).build();
+        };
+    }
+
+    public void recorrerAlumnos(Consumer<AlumnoDTO> consumidor) {
+        this.alumnosRepository.forEach(alumno -> consumidor.accept(convertirADTO(alumno)));
+    }
+
+    public void eliminarAlumno(String legajo) {
+        var alumno = intentarRecuperarAlumno(legajo);
+        // Con la cola, la baja se aplica después de las escrituras del legajo que ya estaban encoladas
+        if (colaDeEscrituras.isPresent()) {
+            esperar(colaDeEscrituras.get().encolar(OperacionDeLote.baja(alumno.getLegajo(), null)));
+            return;
+        }
+        alumnosRepository.deleteByLegajo(alumno.getLegajo());
+        invalidarCaches(alumno.getLegajo());
+    }
+
+    public List<ContactoDTO> obtenerContactos(String legajo) {
+        return convertirADTO(intentarRecuperarAlumno(legajo)).getContactos();
+    }
+
+    public AlumnoDTO agregarContacto(String legajo, ContactoDTO contactoDTO) {
+        AlumnoDTO alumnoDTO = convertirADTO(intentarRecuperarAlumno(legajo));
+        contactoDTO.setId(null);
+        alumnoDTO.getContactos().add(contactoDTO);
+        return actualizarAlumno(legajo, alumnoDTO, alumnoDTO.getVersion());
+    }
+
+    public AlumnoDTO eliminarContacto(String legajo, Long contactoId) {
+        AlumnoDTO alumnoDTO = convertirADTO(intentarRecuperarAlumno(legajo));
+        boolean eliminado = alumnoDTO.getContactos().removeIf(contacto -> contacto.getId().equals(contactoId));
+        if (!eliminado) {
+            throw new NotFoundException("Contacto", String.valueOf(contactoId));
+        }
+        return actualizarAlumno(legajo, alumnoDTO, alumnoDTO.getVersion());
+    }
+
+    private ErroresDeValidacion revisarOperacion(OperacionDeLoteDTO operacionDTO) {
+        ErroresDeValidacion errores = new ErroresDeValidacion();
+        if (operacionDTO == null || operacionDTO.getTipo() == null) {
+            errores.agregar("tipo", "El tipo de operación es obligatorio");
+            return errores;
+        }
+        if (operacionDTO.getTipo() != OperacionDeLoteDTO.Tipo.CREAR
+                && (operacionDTO.getLegajo() == null || operacionDTO.getLegajo().isBlank())) {
+            errores.agregar("legajo", "El legajo es obligatorio");
+        }
+        if (operacionDTO.getTipo() != OperacionDeLoteDTO.Tipo.ELIMINAR) {
+            if (operacionDTO.getAlumno() == null) {
+                errores.agregar("alumno", "Los datos del alumno son obligatorios");
+            } else {
+                validadorDeAlumnos.revisar(operacionDTO.getAlumno()).getErrores().forEach(errores::agregar);
             }
         }
+        return errores;
+    }
 
-        if (tieneErrores) {
-            throw validationException;
+    private String legajoDeOperacion(OperacionDeLoteDTO operacionDTO) {
+        if (operacionDTO == null) {
+            return null;
+        }
+        if (operacionDTO.getTipo() == OperacionDeLoteDTO.Tipo.CREAR) {
+            return operacionDTO.getAlumno() == null ? null : operacionDTO.getAlumno().getLegajo();
         }
+        return operacionDTO.getLegajo();
     }
 
-    private void validarDuplicidadDeAlumno(AlumnoDTO alumnoDTO) {
-        Optional<Alumno> alumnoExistente = alumnosRepository.findByLegajo(alumnoDTO.getLegajo().trim());
-        if(alumnoExistente.isPresent()) {
-            throw new DuplicateLegajoException(alumnoDTO.getLegajo().trim());
+    // Una actualización que cambia el legajo ocupa los dos
+    private Set<String> legajosAfectados(OperacionDeLoteDTO operacionDTO) {
+        Set<String> legajos = new HashSet<>(2);
+        if (operacionDTO.getTipo() != OperacionDeLoteDTO.Tipo.CREAR) {
+            legajos.add(operacionDTO.getLegajo().trim());
         }
+        if (operacionDTO.getTipo() != OperacionDeLoteDTO.Tipo.ELIMINAR) {
+            legajos.add(operacionDTO.getAlumno().getLegajo().trim());
+        }
+        return legajos;
+    }
+
+    private OperacionDeLote convertirAOperacion(OperacionDeLoteDTO operacionDTO) {
+        return switch (operacionDTO.getTipo()) {
+            case CREAR -> OperacionDeLote.alta(convertirDTOAEntity(operacionDTO.getAlumno()));
+            case ACTUALIZAR -> OperacionDeLote.modificacion(operacionDTO.getLegajo().trim(),
+                    convertirDTOAEntity(operacionDTO.getAlumno()), operacionDTO.getVersion());
+            case ELIMINAR -> OperacionDeLote.baja(operacionDTO.getLegajo().trim(), operacionDTO.getVersion());
+        };
+    }
+
+    private ResultadoDeOperacionDTO rechazar(ResultadoDeOperacionDTO resultado, String mensaje) {
+        resultado.setEstado(ResultadoDeOperacionDTO.Estado.RECHAZADO);
+        resultado.setMensaje(mensaje);
+        return resultado;
+    }
+
+    private ResultadoDeImportacionDTO rechazar(ResultadoDeImportacionDTO resultado, String mensaje) {
+        resultado.setEstado(ResultadoDeImportacionDTO.Estado.RECHAZADO);
+        resultado.setMensaje(mensaje);
+        return resultado;
     }
 
     private Alumno intentarRecuperarAlumno(String legajo) {
@@ -141,12 +501,26 @@ public class AlumnoService {
         return alumno.get();
     }
 
+    // La proyección y los fragmentos HTML del alumno se validan igual por versión; invalidar
+    // después de cada escritura libera enseguida las entradas que ya no van a servir
+    private void invalidarCaches(String legajo) {
+        cacheDeProyecciones.invalidar(legajo);
+        cacheDeFragmentos.invalidar(legajo);
+    }
+
+    // Proyección cacheada para las lecturas; no debe modificarse
+    private AlumnoDTO proyectar(Alumno alumno) {
+        return cacheDeProyecciones.obtener(alumno, this::convertirADTO);
+    }
+
     private AlumnoDTO convertirADTO(Alumno alumno) {
         AlumnoDTO dto = new AlumnoDTO();
         dto.setLegajo(alumno.getLegajo());
         dto.setNombre(alumno.getNombre());
         dto.setApellido(alumno.getApellido());
         dto.setNombreCompleto(alumno.getNombreCompleto());
+        dto.setVersion(alumno.getVersion());
+        dto.setAlta(alumno.getAlta());
         
         List<ContactoDTO> contactosDTO = alumno.getContactos().stream()
                 .map(this::convertirContactoADTO)
@@ -161,6 +535,7 @@ public class AlumnoService {
         alumno.setLegajo(alumnoDTO.getLegajo().trim());
         alumno.setNombre(alumnoDTO.getNombre().trim());
         alumno.setApellido(alumnoDTO.getApellido().trim());
+        alumno.setAlta(alumnoDTO.getAlta());
         
         List<Contacto> contactos = alumnoDTO.getContactos().stream()
                 .filter(contacto -> contacto.getTipoContacto() != null && 
@@ -177,15 +552,49 @@ public class AlumnoService {
         dto.setId(contacto.getId());
         dto.setTipoContacto(contacto.getTipoContacto());
         dto.setValor(contacto.getValor());
-        dto.setTipoContactoDescripcion(contacto.getTipoContacto().toString());
+        dto.setTipoContactoDescripcion(contacto.getTipoContacto().getDescripcion());
         return dto;
     }
 
     private Contacto convertirContactoDTOAEntity(ContactoDTO contactoDTO) {
         Contacto contacto = new Contacto();
-        contacto.setId(contactoDTO.getId());
+        contacto.setId(contactoDTO.getId() == null ? 0 : contactoDTO.getId());
         contacto.setTipoContacto(contactoDTO.getTipoContacto());
         contacto.setValor(contactoDTO.getValor().trim());
         return contacto;
     }
+
+    // Los eventos se publican desde el repositorio, en la misma sección que aplica cada escritura:
+    // así salen en el orden en que se aplicaron las de cada legajo y una baja nunca llega antes
+    // que la modificación anterior. No se publica el estado inicial que repite registrarObservador.
+    private class PublicacionDeCambios implements ObservadorDeAlumnos {
+        private volatile boolean activa;
+
+        @Override
+        public void alGuardar(Alumno anterior, Alumno nuevo) {
+            if (!activa) {
+                return;
+            }
+            AlumnoDTO alumno = convertirADTO(nuevo);
+            if (anterior == null) {
+                busDeEventos.publicarCreacion(alumno);
+            } else {
+                busDeEventos.publicarActualizacion(anterior.getLegajo(), alumno);
+            }
+        }
+
+        @Override
+        public void alEliminar(Alumno eliminado) {
+            if (activa) {
+                busDeEventos.publicarEliminacion(eliminado.getLegajo());
+            }
+        }
+    }
+
+    // Claves de LecturasCompartidas: la versión del padrón separa las lecturas anteriores a una escritura
+    private record ConsultaDePagina(long versionDelPadron, String filtro, OrdenDeAlumnos orden, String cursor, int tamanio) {
+    }
+
+    private record LecturaDeAlumno(long versionDelPadron, String legajo) {
+    }
 }
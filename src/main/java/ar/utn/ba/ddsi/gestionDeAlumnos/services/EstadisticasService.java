@@ -0,0 +1,85 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDelPadronDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadoDelSistemaDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.estadisticas.ContadoresDelPadron;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class EstadisticasService {
+    public static final int DOMINIOS_POR_DEFECTO = 5;
+
+    @Autowired
+    private ContadoresDelPadron contadoresDelPadron;
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Los contadores se leen tal cual; solo los dominios se ordenan, y son pocos
+    public EstadisticasDelPadronDTO obtenerEstadisticasDelPadron(Integer dominios) {
+        int limite = dominios == null || dominios < 0 ? DOMINIOS_POR_DEFECTO : dominios;
+
+        Map<TipoContacto, Long> contactosPorTipo = new EnumMap<>(TipoContacto.class);
+        for (TipoContacto tipo : TipoContacto.values()) {
+            contactosPorTipo.put(tipo, contadoresDelPadron.getContactos(tipo));
+        }
+
+        Map<String, Long> dominiosDeEmail = new LinkedHashMap<>();
+        long otrosDominios = 0;
+        for (Map.Entry<String, Long> entrada : contadoresDelPadron.getEmailsPorDominio().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .toList()) {
+            if (dominiosDeEmail.size() < limite) {
+                dominiosDeEmail.put(entrada.getKey(), entrada.getValue());
+            } else {
+                otrosDominios += entrada.getValue();
+            }
+        }
+
+        return EstadisticasDelPadronDTO.builder()
+                .totalDeAlumnos(contadoresDelPadron.getAlumnos())
+                .alumnosSinContactos(contadoresDelPadron.getAlumnosSinContactos())
+                .contactosPorTipo(contactosPorTipo)
+                .dominiosDeEmail(dominiosDeEmail)
+                .otrosDominios(otrosDominios)
+                .build();
+    }
+
+    // Salud según actuator y latencia de las requests atendidas (sin contar las de /actuator)
+    public EstadoDelSistemaDTO obtenerEstadoDelSistema() {
+        Status estado = healthEndpoint.health().getStatus();
+
+        long solicitudes = 0;
+        double tiempoTotalMs = 0;
+        double maximoMs = 0;
+        for (Timer timer : meterRegistry.find("http.server.requests").timers()) {
+            String uri = timer.getId().getTag("uri");
+            if (uri != null && uri.startsWith("/actuator")) {
+                continue;
+            }
+            solicitudes += timer.count();
+            tiempoTotalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+            maximoMs = Math.max(maximoMs, timer.max(TimeUnit.MILLISECONDS));
+        }
+
+        return EstadoDelSistemaDTO.builder()
+                .estado(estado.getCode())
+                .activo(Status.UP.equals(estado))
+                .solicitudes(solicitudes)
+                .latenciaMediaMs(solicitudes == 0 ? 0 : tiempoTotalMs / solicitudes)
+                .latenciaMaximaMs(maximoMs)
+                .build();
+    }
+}
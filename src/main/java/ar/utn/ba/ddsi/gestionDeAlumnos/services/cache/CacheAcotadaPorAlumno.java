@@ -0,0 +1,153 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.cache;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDeCacheDTO;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Cache acotada por legajo de algo armado a partir de un alumno. Cada entrada guarda el alta y la
+// versión del alumno con las que se armó y solo se devuelve para esas mismas, así que no hace
+// falta que la invalidación explícita llegue a tiempo. Los legajos se reparten en franjas, cada
+// una un LinkedHashMap en orden de acceso bajo su lock: al llenarse se desaloja el menos usado.
+final class CacheAcotadaPorAlumno<V> {
+    private static final int FRANJAS_MAXIMAS = 16;
+
+    private final int capacidad;
+    private final List<Franja> franjas = new ArrayList<>(FRANJAS_MAXIMAS);
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+    private final LongAdder invalidaciones = new LongAdder();
+
+    CacheAcotadaPorAlumno(int capacidad) {
+        this.capacidad = Math.max(0, capacidad);
+        // La capacidad se reparte entera entre las franjas, así que entre todas nunca la superan
+        int cantidad = Math.max(1, Math.min(FRANJAS_MAXIMAS, this.capacidad));
+        for (int i = 0; i < cantidad; i++) {
+            franjas.add(new Franja(this.capacidad / cantidad + (i < this.capacidad % cantidad ? 1 : 0)));
+        }
+    }
+
+    boolean habilitada() {
+        return capacidad > 0;
+    }
+
+    // null si no hay nada armado para esa alta y versión del alumno
+    V buscar(String legajo, long alta, long version) {
+        if (!habilitada()) {
+            return null;
+        }
+        Franja franja = franjaDe(legajo);
+        franja.lock.lock();
+        try {
+            Entrada<V> entrada = franja.get(legajo);
+            return entrada != null && entrada.alta() == alta && entrada.version() == version ? entrada.valor() : null;
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    // Si otro request ya guardó una versión distinta se reemplaza: la lectura la valida igual
+    void guardar(String legajo, long alta, long version, V valor) {
+        if (!habilitada()) {
+            return;
+        }
+        Franja franja = franjaDe(legajo);
+        franja.lock.lock();
+        try {
+            franja.put(legajo, new Entrada<>(alta, version, valor));
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    void invalidar(String legajo) {
+        Franja franja = franjaDe(legajo);
+        franja.lock.lock();
+        try {
+            if (franja.remove(legajo) != null) {
+                invalidaciones.increment();
+            }
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    void invalidarTodo() {
+        for (Franja franja : franjas) {
+            franja.lock.lock();
+            try {
+                invalidaciones.add(franja.size());
+                franja.clear();
+            } finally {
+                franja.lock.unlock();
+            }
+        }
+    }
+
+    void contarAcierto() {
+        aciertos.increment();
+    }
+
+    void contarFallo() {
+        fallos.increment();
+    }
+
+    EstadisticasDeCacheDTO estadisticas() {
+        long totalAciertos = aciertos.sum();
+        long totalFallos = fallos.sum();
+        long consultas = totalAciertos + totalFallos;
+        return EstadisticasDeCacheDTO.builder()
+                .capacidad(capacidad)
+                .tamanio(tamanio())
+                .aciertos(totalAciertos)
+                .fallos(totalFallos)
+                .desalojos(desalojos.sum())
+                .invalidaciones(invalidaciones.sum())
+                .tasaDeAciertos(consultas == 0 ? 0 : (double) totalAciertos / consultas)
+                .build();
+    }
+
+    private int tamanio() {
+        int tamanio = 0;
+        for (Franja franja : franjas) {
+            franja.lock.lock();
+            try {
+                tamanio += franja.size();
+            } finally {
+                franja.lock.unlock();
+            }
+        }
+        return tamanio;
+    }
+
+    private Franja franjaDe(String legajo) {
+        return franjas.get(Math.floorMod(legajo.hashCode(), franjas.size()));
+    }
+
+    private final class Franja extends LinkedHashMap<String, Entrada<V>> {
+        private final int capacidad;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Franja(int capacidad) {
+            super(16, 0.75f, true);
+            this.capacidad = capacidad;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entrada<V>> masViejo) {
+            if (size() <= capacidad) {
+                return false;
+            }
+            desalojos.increment();
+            return true;
+        }
+    }
+
+    private record Entrada<V>(long alta, long version, V valor) {
+    }
+}
@@ -0,0 +1,59 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.cache;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDeCacheDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Cache acotada de fragmentos HTML ya renderizados por alumno (la fila del listado, el bloque de
+// contactos del detalle). Como en CacheDeProyecciones, un fragmento solo se devuelve para el
+// mismo alta y versión del alumno con los que se renderizó.
+@Component
+public class CacheDeFragmentos {
+    private final CacheAcotadaPorAlumno<Map<String, String>> renderizados;
+
+    public CacheDeFragmentos(@Value("${alumnos.cache.fragmentos:10000}") int capacidad) {
+        this.renderizados = new CacheAcotadaPorAlumno<>(capacidad);
+    }
+
+    public String obtener(String fragmento, AlumnoDTO alumno, Function<AlumnoDTO, String> renderizar) {
+        // Un DTO sin versión no salió del repositorio: no hay con qué validar la entrada
+        if (!renderizados.habilitada() || alumno.getVersion() == null) {
+            renderizados.contarFallo();
+            return renderizar.apply(alumno);
+        }
+
+        String legajo = alumno.getLegajo();
+        Map<String, String> porFragmento = renderizados.buscar(legajo, alumno.getAlta(), alumno.getVersion());
+        String html = porFragmento == null ? null : porFragmento.get(fragmento);
+        if (html != null) {
+            renderizados.contarAcierto();
+            return html;
+        }
+
+        renderizados.contarFallo();
+        html = renderizar.apply(alumno);
+        if (porFragmento == null) {
+            renderizados.guardar(legajo, alumno.getAlta(), alumno.getVersion(), new ConcurrentHashMap<>(Map.of(fragmento, html)));
+        } else {
+            porFragmento.put(fragmento, html);
+        }
+        return html;
+    }
+
+    public void invalidar(String legajo) {
+        renderizados.invalidar(legajo.trim());
+    }
+
+    public void invalidarTodo() {
+        renderizados.invalidarTodo();
+    }
+
+    public EstadisticasDeCacheDTO estadisticas() {
+        return renderizados.estadisticas();
+    }
+}
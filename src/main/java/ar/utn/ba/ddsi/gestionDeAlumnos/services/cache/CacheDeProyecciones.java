@@ -0,0 +1,84 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.cache;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EstadisticasDeCacheDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Cache acotada de proyecciones AlumnoDTO por legajo, más un snapshot opcional de la lista
+// completa. Una proyección solo se devuelve para el mismo alta y versión del alumno con los que
+// se armó (ver CacheAcotadaPorAlumno). Los DTOs cacheados se comparten entre requests: no deben
+// modificarse.
+@Component
+public class CacheDeProyecciones {
+    private final boolean listaCompletaHabilitada;
+    private final CacheAcotadaPorAlumno<AlumnoDTO> proyecciones;
+    private final AtomicReference<ListaCompleta> listaCompleta = new AtomicReference<>();
+
+    public CacheDeProyecciones(@Value("${alumnos.cache.capacidad:10000}") int capacidad,
+                               @Value("${alumnos.cache.lista-completa:true}") boolean listaCompletaHabilitada) {
+        this.proyecciones = new CacheAcotadaPorAlumno<>(capacidad);
+        this.listaCompletaHabilitada = listaCompletaHabilitada;
+    }
+
+    public AlumnoDTO obtener(Alumno alumno, Function<Alumno, AlumnoDTO> proyectar) {
+        if (!proyecciones.habilitada()) {
+            proyecciones.contarFallo();
+            return proyectar.apply(alumno);
+        }
+
+        String legajo = alumno.getLegajo();
+        AlumnoDTO cacheado = proyecciones.buscar(legajo, alumno.getAlta(), alumno.getVersion());
+        if (cacheado != null) {
+            proyecciones.contarAcierto();
+            return cacheado;
+        }
+
+        proyecciones.contarFallo();
+        AlumnoDTO dto = proyectar.apply(alumno);
+        dto.setContactos(List.copyOf(dto.getContactos()));
+        proyecciones.guardar(legajo, alumno.getAlta(), alumno.getVersion(), dto);
+        return dto;
+    }
+
+    // versionDelPadron identifica el estado del repositorio con el que se armó la lista
+    public List<AlumnoDTO> obtenerListaCompleta(long versionDelPadron, Supplier<List<AlumnoDTO>> construir) {
+        if (!listaCompletaHabilitada) {
+            return construir.get();
+        }
+
+        ListaCompleta actual = listaCompleta.get();
+        if (actual != null && actual.versionDelPadron == versionDelPadron) {
+            proyecciones.contarAcierto();
+            return actual.alumnos;
+        }
+
+        proyecciones.contarFallo();
+        List<AlumnoDTO> alumnos = List.copyOf(construir.get());
+        listaCompleta.set(new ListaCompleta(versionDelPadron, alumnos));
+        return alumnos;
+    }
+
+    public void invalidar(String legajo) {
+        proyecciones.invalidar(legajo.trim());
+        listaCompleta.set(null);
+    }
+
+    public void invalidarTodo() {
+        proyecciones.invalidarTodo();
+        listaCompleta.set(null);
+    }
+
+    public EstadisticasDeCacheDTO estadisticas() {
+        return proyecciones.estadisticas();
+    }
+
+    private record ListaCompleta(long versionDelPadron, List<AlumnoDTO> alumnos) {
+    }
+}
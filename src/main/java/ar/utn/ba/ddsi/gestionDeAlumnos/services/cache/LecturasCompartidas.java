@@ -0,0 +1,65 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Lecturas idénticas concurrentes comparten un solo cálculo: el primer pedido lo ejecuta y los que
+// llegan mientras tanto esperan su resultado (o su excepción). La clave debe incluir la versión del
+// padrón, así un pedido que empieza después de una escritura nunca recibe un resultado anterior.
+// Los resultados se comparten entre requests: no deben modificarse.
+@Component
+public class LecturasCompartidas {
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> enCurso = new ConcurrentHashMap<>();
+    private final LongAdder ejecutadas = new LongAdder();
+    private final LongAdder compartidas = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T compartir(Object clave, Supplier<T> leer) {
+        CompletableFuture<Object> propia = new CompletableFuture<>();
+        CompletableFuture<Object> existente = enCurso.putIfAbsent(clave, propia);
+        if (existente != null) {
+            compartidas.increment();
+            return (T) esperar(existente);
+        }
+
+        ejecutadas.increment();
+        try {
+            T resultado = leer.get();
+            propia.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            propia.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(clave, propia);
+        }
+    }
+
+    public long getEjecutadas() {
+        return ejecutadas.sum();
+    }
+
+    public long getCompartidas() {
+        return compartidas.sum();
+    }
+
+    private static Object esperar(CompletableFuture<Object> lectura) {
+        try {
+            return lectura.join();
+        } catch (CompletionException e) {
+            // Se relanza la misma excepción que recibió el pedido que ejecutó la lectura
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.escrituras;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.EscriturasSaturadasException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Modo de escritura asincrónico: las escrituras ya validadas se encolan con un número de secuencia
+// y un único hilo escritor las aplica en grupos con AlumnosRepository.aplicarLote, así los pedidos
+// no compiten entre sí por los legajos bloqueados. Cada escritura se resuelve por separado: si el
+// repositorio rechaza alguna del grupo, el resto se vuelve a aplicar sin ella. Si la cola está
+// llena la escritura se rechaza en el momento en lugar de esperar.
+@Component
+@ConditionalOnProperty(name = "alumnos.escrituras.modo", havingValue = "asincronico")
+public class ColaDeEscrituras {
+    private final AlumnosRepository alumnosRepository;
+    private final int capacidad;
+    private final int grupoMaximo;
+    private final BlockingQueue<Escritura> pendientes;
+    // Las últimas escrituras encoladas (incluye todas las pendientes), para consultarlas por secuencia
+    private final AtomicReferenceArray<Escritura> historial;
+    // Ordena la secuencia con el orden de la cola
+    private final ReentrantLock lock = new ReentrantLock();
+    private long ultimaSecuencia;
+    private Function<OperacionDeLote, AlumnoDTO> alAplicar;
+    private volatile boolean activo;
+    private Thread escritor;
+
+    public ColaDeEscrituras(AlumnosRepository alumnosRepository,
+                            @Value("${alumnos.escrituras.capacidad:10000}") int capacidad,
+                            @Value("${alumnos.escrituras.grupo-maximo:500}") int grupoMaximo,
+                            @Value("${alumnos.escrituras.historial:10000}") int historial) {
+        this.alumnosRepository = alumnosRepository;
+        this.capacidad = Math.max(1, capacidad);
+        this.grupoMaximo = Math.max(1, grupoMaximo);
+        this.pendientes = new ArrayBlockingQueue<>(this.capacidad);
+        this.historial = new AtomicReferenceArray<>(Math.max(historial, this.capacidad));
+    }
+
+    // alAplicar corre en el hilo escritor después de guardar cada escritura y arma el alumno resultante
+    public void iniciar(Function<OperacionDeLote, AlumnoDTO> alAplicar) {
+        this.alAplicar = alAplicar;
+        activo = true;
+        escritor = new Thread(this::aplicarGrupos, "alumnos-escrituras");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    public Escritura encolar(OperacionDeLote operacion) {
+        lock.lock();
+        try {
+            Escritura escritura = new Escritura(ultimaSecuencia + 1, operacion);
+            if (!activo || !pendientes.offer(escritura)) {
+                throw new EscriturasSaturadasException(capacidad);
+            }
+            ultimaSecuencia = escritura.getSecuencia();
+            historial.set(posicion(escritura.getSecuencia()), escritura);
+            return escritura;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Escritura> buscar(long secuencia) {
+        if (secuencia < 1) {
+            return Optional.empty();
+        }
+        Escritura escritura = historial.get(posicion(secuencia));
+        return escritura != null && escritura.getSecuencia() == secuencia ? Optional.of(escritura) : Optional.empty();
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        activo = false;
+        if (escritor != null) {
+            try {
+                escritor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void aplicarGrupos() {
+        List<Escritura> lote = new ArrayList<>(grupoMaximo);
+        while (activo || !pendientes.isEmpty()) {
+            try {
+                Escritura primera = pendientes.poll(100, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                pendientes.drainTo(lote, grupoMaximo - 1);
+                procesar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    // Un legajo solo puede aparecer una vez por lote del repositorio: al repetirse se cierra el
+    // grupo y la escritura pasa al siguiente, respetando el orden de llegada
+    private void procesar(List<Escritura> lote) {
+        List<Escritura> grupo = new ArrayList<>(lote.size());
+        Set<String> legajosDelGrupo = new HashSet<>();
+        for (Escritura escritura : lote) {
+            Set<String> legajos = legajosAfectados(escritura.getOperacion());
+            if (!Collections.disjoint(legajosDelGrupo, legajos)) {
+                aplicar(grupo);
+                grupo = new ArrayList<>(lote.size());
+                legajosDelGrupo.clear();
+            }
+            grupo.add(escritura);
+            legajosDelGrupo.addAll(legajos);
+        }
+        aplicar(grupo);
+    }
+
+    private void aplicar(List<Escritura> grupo) {
+        List<Escritura> restantes = grupo;
+        while (!restantes.isEmpty()) {
+            Map<Integer, RuntimeException> fallas;
+            try {
+                fallas = alumnosRepository.aplicarLote(restantes.stream().map(Escritura::getOperacion).toList());
+            } catch (RuntimeException e) {
+                restantes.forEach(escritura -> escritura.getResultado().completeExceptionally(e));
+                return;
+            }
+            if (fallas.isEmpty()) {
+                restantes.forEach(this::confirmar);
+                return;
+            }
+
+            List<Escritura> siguientes = new ArrayList<>(restantes.size() - fallas.size());
+            for (int i = 0; i < restantes.size(); i++) {
+                RuntimeException falla = fallas.get(i);
+                if (falla != null) {
+                    restantes.get(i).getResultado().completeExceptionally(falla);
+                } else {
+                    siguientes.add(restantes.get(i));
+                }
+            }
+            restantes = siguientes;
+        }
+    }
+
+    private void confirmar(Escritura escritura) {
+        try {
+            escritura.getResultado().complete(alAplicar.apply(escritura.getOperacion()));
+        } catch (RuntimeException e) {
+            escritura.getResultado().completeExceptionally(e);
+        }
+    }
+
+    private static Set<String> legajosAfectados(OperacionDeLote operacion) {
+        Set<String> legajos = new HashSet<>(2);
+        legajos.add(operacion.getLegajo().trim());
+        if (operacion.getAlumno() != null) {
+            legajos.add(operacion.getAlumno().getLegajo().trim());
+        }
+        return legajos;
+    }
+
+    private int posicion(long secuencia) {
+        return (int) (secuencia % historial.length());
+    }
+}
@@ -0,0 +1,21 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.escrituras;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+// Una escritura encolada en ColaDeEscrituras. El resultado se completa con el alumno guardado o
+// con la excepción que la rechazó (la misma que daría la escritura sincrónica).
+@Getter
+public class Escritura {
+    private final long secuencia;
+    private final OperacionDeLote operacion;
+    private final CompletableFuture<AlumnoDTO> resultado = new CompletableFuture<>();
+
+    Escritura(long secuencia, OperacionDeLote operacion) {
+        this.secuencia = secuencia;
+        this.operacion = operacion;
+    }
+}
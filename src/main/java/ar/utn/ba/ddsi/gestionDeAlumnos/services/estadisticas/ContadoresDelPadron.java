@@ -0,0 +1,89 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.estadisticas;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Agregados del padrón mantenidos con cada alta, modificación y baja del repositorio,
+// para que leerlos no requiera recorrer a los alumnos.
+@Component
+public class ContadoresDelPadron implements ObservadorDeAlumnos {
+    private final LongAdder alumnos = new LongAdder();
+    private final LongAdder alumnosSinContactos = new LongAdder();
+    private final Map<TipoContacto, LongAdder> contactosPorTipo = new EnumMap<>(TipoContacto.class);
+    // Un dominio desaparece del mapa cuando deja de tener emails
+    private final ConcurrentHashMap<String, Long> emailsPorDominio = new ConcurrentHashMap<>();
+
+    public ContadoresDelPadron(AlumnosRepository alumnosRepository) {
+        for (TipoContacto tipo : TipoContacto.values()) {
+            contactosPorTipo.put(tipo, new LongAdder());
+        }
+        alumnosRepository.registrarObservador(this);
+    }
+
+    @Override
+    public void alGuardar(Alumno anterior, Alumno nuevo) {
+        if (anterior != null) {
+            contar(anterior, -1);
+        }
+        contar(nuevo, 1);
+    }
+
+    @Override
+    public void alEliminar(Alumno eliminado) {
+        contar(eliminado, -1);
+    }
+
+    public long getAlumnos() {
+        return alumnos.sum();
+    }
+
+    public long getAlumnosSinContactos() {
+        return alumnosSinContactos.sum();
+    }
+
+    public long getContactos(TipoContacto tipo) {
+        return contactosPorTipo.get(tipo).sum();
+    }
+
+    public Map<String, Long> getEmailsPorDominio() {
+        return Collections.unmodifiableMap(emailsPorDominio);
+    }
+
+    private void contar(Alumno alumno, int delta) {
+        alumnos.add(delta);
+        if (alumno.getContactos().isEmpty()) {
+            alumnosSinContactos.add(delta);
+        }
+        for (Contacto contacto : alumno.getContactos()) {
+            contactosPorTipo.get(contacto.getTipoContacto()).add(delta);
+            if (contacto.getTipoContacto() == TipoContacto.EMAIL) {
+                String dominio = dominioDe(contacto.getValor());
+                if (dominio != null) {
+                    emailsPorDominio.compute(dominio, (clave, cantidad) -> {
+                        long nueva = (cantidad == null ? 0 : cantidad) + delta;
+                        return nueva <= 0 ? null : nueva;
+                    });
+                }
+            }
+        }
+    }
+
+    private static String dominioDe(String email) {
+        int arroba = email == null ? -1 : email.lastIndexOf('@');
+        if (arroba < 0 || arroba == email.length() - 1) {
+            return null;
+        }
+        return email.substring(arroba + 1).trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,108 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.eventos;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EventoDeAlumnoDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bus interno de cambios del padrón. Cada evento recibe un número de secuencia creciente y
+// queda en un historial circular, así un suscriptor que se reconecta retoma desde el último
+// que vio. La publicación nunca espera a los suscriptores: cada uno tiene su cola acotada y
+// el que no la vacía a tiempo queda desbordado y se desconecta.
+@Component
+public class BusDeEventos {
+    private final int capacidadPorSuscriptor;
+    private final EventoDeAlumnoDTO[] historial;
+    private final Set<Suscripcion> suscripciones = ConcurrentHashMap.newKeySet();
+    // Ordena las publicaciones: secuencia, historial y colas avanzan juntos
+    private final ReentrantLock lock = new ReentrantLock();
+    private long ultimaSecuencia;
+    // Las secuencias vuelven a empezar con cada arranque; la instancia distingue una de otra
+    private final String instancia = Long.toString(System.currentTimeMillis(), 36);
+
+    public BusDeEventos(@Value("${alumnos.eventos.historial:10000}") int capacidadDeHistorial,
+                        @Value("${alumnos.eventos.cola-por-suscriptor:1024}") int capacidadPorSuscriptor) {
+        this.historial = new EventoDeAlumnoDTO[Math.max(1, capacidadDeHistorial)];
+        this.capacidadPorSuscriptor = Math.max(1, capacidadPorSuscriptor);
+    }
+
+    public void publicarCreacion(AlumnoDTO alumno) {
+        publicar(EventoDeAlumnoDTO.Tipo.CREADO, alumno.getLegajo(), null, alumno);
+    }
+
+    public void publicarActualizacion(String legajoAnterior, AlumnoDTO alumno) {
+        String anterior = legajoAnterior.trim().equals(alumno.getLegajo()) ? null : legajoAnterior.trim();
+        publicar(EventoDeAlumnoDTO.Tipo.ACTUALIZADO, alumno.getLegajo(), anterior, alumno);
+    }
+
+    public void publicarEliminacion(String legajo) {
+        publicar(EventoDeAlumnoDTO.Tipo.ELIMINADO, legajo, null, null);
+    }
+
+    // Registra al suscriptor y le encola lo que se perdió desde la secuencia indicada, sin que
+    // una publicación concurrente pueda quedar en el medio. Si lo perdido ya no está en el
+    // historial, no entra en su cola o la secuencia no es de esta instancia del bus, la
+    // suscripción arranca pidiendo un reinicio.
+    public Suscripcion suscribir(String instanciaDelCliente, Long desde) {
+        lock.lock();
+        try {
+            Suscripcion suscripcion;
+            if (desde == null) {
+                suscripcion = new Suscripcion(this, capacidadPorSuscriptor, ultimaSecuencia, false);
+            } else {
+                boolean recuperable = instancia.equals(instanciaDelCliente)
+                        && desde >= 0
+                        && desde <= ultimaSecuencia
+                        && desde >= ultimaSecuencia - historial.length
+                        && ultimaSecuencia - desde <= capacidadPorSuscriptor;
+                suscripcion = new Suscripcion(this, capacidadPorSuscriptor, recuperable ? desde : ultimaSecuencia, !recuperable);
+                if (recuperable) {
+                    for (long secuencia = desde + 1; secuencia <= ultimaSecuencia; secuencia++) {
+                        suscripcion.ofrecer(historial[posicion(secuencia)]);
+                    }
+                }
+            }
+            suscripciones.add(suscripcion);
+            return suscripcion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getInstancia() {
+        return instancia;
+    }
+
+    void cancelar(Suscripcion suscripcion) {
+        suscripciones.remove(suscripcion);
+    }
+
+    private void publicar(EventoDeAlumnoDTO.Tipo tipo, String legajo, String legajoAnterior, AlumnoDTO alumno) {
+        lock.lock();
+        try {
+            EventoDeAlumnoDTO evento = EventoDeAlumnoDTO.builder()
+                    .secuencia(++ultimaSecuencia)
+                    .tipo(tipo)
+                    .legajo(legajo)
+                    .legajoAnterior(legajoAnterior)
+                    .alumno(alumno)
+                    .instante(Instant.now())
+                    .build();
+            historial[posicion(evento.getSecuencia())] = evento;
+            for (Suscripcion suscripcion : suscripciones) {
+                suscripcion.ofrecer(evento);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int posicion(long secuencia) {
+        return (int) (secuencia % historial.length);
+    }
+}
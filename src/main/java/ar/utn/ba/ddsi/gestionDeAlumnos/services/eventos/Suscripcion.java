@@ -0,0 +1,65 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.eventos;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.EventoDeAlumnoDTO;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Cola acotada de un suscriptor del bus. El bus solo hace offer: si la cola está llena la
+// suscripción queda desbordada, deja de recibir eventos y quien la atiende debe cerrarla;
+// el cliente se reconecta con la última secuencia que procesó.
+public class Suscripcion {
+    private final BusDeEventos bus;
+    private final BlockingQueue<EventoDeAlumnoDTO> pendientes;
+    // Secuencia desde la que sigue el cliente: todo lo que llega a la cola es posterior
+    private final long secuenciaInicial;
+    private final boolean requiereReinicio;
+    private volatile boolean desbordada;
+    private volatile boolean cancelada;
+
+    Suscripcion(BusDeEventos bus, int capacidad, long secuenciaInicial, boolean requiereReinicio) {
+        this.bus = bus;
+        this.pendientes = new ArrayBlockingQueue<>(capacidad);
+        this.secuenciaInicial = secuenciaInicial;
+        this.requiereReinicio = requiereReinicio;
+    }
+
+    // Espera el próximo evento; null si no llegó ninguno en el plazo o la suscripción terminó
+    public EventoDeAlumnoDTO siguiente(Duration espera) throws InterruptedException {
+        if (!isActiva()) {
+            return null;
+        }
+        return pendientes.poll(espera.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // El historial ya no tiene todo lo que el cliente se perdió: tiene que volver a leer el padrón
+    public boolean requiereReinicio() {
+        return requiereReinicio;
+    }
+
+    public long getSecuenciaInicial() {
+        return secuenciaInicial;
+    }
+
+    public boolean isDesbordada() {
+        return desbordada;
+    }
+
+    public boolean isActiva() {
+        return !cancelada && !desbordada;
+    }
+
+    public void cancelar() {
+        cancelada = true;
+        bus.cancelar(this);
+    }
+
+    void ofrecer(EventoDeAlumnoDTO evento) {
+        if (isActiva() && !pendientes.offer(evento)) {
+            desbordada = true;
+            bus.cancelar(this);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Formatos de importación/exportación masiva, una línea por alumno
+public enum FormatoDeIntercambio {
+    // legajo,nombre,apellido,contactos  con contactos = "EMAIL:a@b.com|TELEFONO:+54 11 1234-5678"
+    CSV("text/csv", "csv") {
+        @Override
+        public String cabecera() {
+            return "legajo,nombre,apellido,contactos";
+        }
+
+        @Override
+        public boolean esCabecera(String linea) {
+            return linea.regionMatches(true, 0, "legajo,", 0, 7);
+        }
+
+        @Override
+        public AlumnoDTO leer(String linea, ObjectMapper objectMapper) {
+            List<String> campos = separarCampos(linea);
+            if (campos.size() < 3 || campos.size() > 4) {
+                throw new IllegalArgumentException("Se esperaban 3 o 4 columnas y se encontraron " + campos.size());
+            }
+
+            AlumnoDTO alumno = new AlumnoDTO();
+            alumno.setLegajo(campos.get(0));
+            alumno.setNombre(campos.get(1));
+            alumno.setApellido(campos.get(2));
+            alumno.setContactos(campos.size() == 4 ? leerContactos(campos.get(3)) : new ArrayList<>());
+            return alumno;
+        }
+
+        @Override
+        public String escribir(AlumnoDTO alumno, ObjectMapper objectMapper) {
+            String contactos = alumno.getContactos().stream()
+                    .map(contacto -> contacto.getTipoContacto().name() + ":" + contacto.getValor())
+                    .collect(Collectors.joining("|"));
+            return String.join(",", citar(alumno.getLegajo()), citar(alumno.getNombre()),
+                    citar(alumno.getApellido()), citar(contactos));
+        }
+    },
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public AlumnoDTO leer(String linea, ObjectMapper objectMapper) {
+            try {
+                AlumnoDTO alumno = objectMapper.readValue(linea, AlumnoDTO.class);
+                if (alumno.getContactos() == null) {
+                    alumno.setContactos(new ArrayList<>());
+                }
+                return alumno;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public String escribir(AlumnoDTO alumno, ObjectMapper objectMapper) {
+            try {
+                return objectMapper.writeValueAsString(alumno);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    private final String tipoDeContenido;
+    private final String extension;
+
+    FormatoDeIntercambio(String tipoDeContenido, String extension) {
+        this.tipoDeContenido = tipoDeContenido;
+        this.extension = extension;
+    }
+
+    public String getTipoDeContenido() {
+        return tipoDeContenido;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String cabecera() {
+        return null;
+    }
+
+    public boolean esCabecera(String linea) {
+        return false;
+    }
+
+    public abstract AlumnoDTO leer(String linea, ObjectMapper objectMapper);
+
+    public abstract String escribir(AlumnoDTO alumno, ObjectMapper objectMapper);
+
+    // El parámetro explícito tiene prioridad sobre el Content-Type
+    public static FormatoDeIntercambio desde(String formato, String tipoDeContenido) {
+        if (formato != null && !formato.isBlank()) {
+            for (FormatoDeIntercambio candidato : values()) {
+                if (candidato.name().equalsIgnoreCase(formato.trim())) {
+                    return candidato;
+                }
+            }
+            ValidationException error = new ValidationException("Formato de intercambio desconocido: " + formato.trim());
+            error.addFieldError("formato", "Los formatos admitidos son csv y ndjson");
+            throw error;
+        }
+        if (tipoDeContenido != null && tipoDeContenido.contains("json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+
+    private static List<ContactoDTO> leerContactos(String campo) {
+        List<ContactoDTO> contactos = new ArrayList<>();
+        if (campo.isBlank()) {
+            return contactos;
+        }
+        for (String contacto : campo.split("\\|")) {
+            int separador = contacto.indexOf(':');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Contacto sin tipo: " + contacto);
+            }
+            ContactoDTO dto = new ContactoDTO();
+            dto.setTipoContacto(TipoContacto.valueOf(contacto.substring(0, separador).trim().toUpperCase()));
+            dto.setValor(contacto.substring(separador + 1));
+            contactos.add(dto);
+        }
+        return contactos;
+    }
+
+    // Separa una línea CSV respetando comillas dobles ("" escapa una comilla)
+    private static List<String> separarCampos(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char caracter = linea.charAt(i);
+            if (entreComillas) {
+                if (caracter == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (caracter == '"') {
+                    entreComillas = false;
+                } else {
+                    campo.append(caracter);
+                }
+            } else if (caracter == '"') {
+                entreComillas = true;
+            } else if (caracter == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(caracter);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private static String citar(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,95 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeImportacionDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.services.AlumnoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ImportacionDeAlumnosService {
+    public static final int TAMANIO_DE_LOTE = 500;
+
+    private final AlumnoService alumnoService;
+    private final ObjectMapper objectMapper;
+
+    // Lee la entrada línea por línea y la procesa en lotes; los resultados se informan a medida
+    // que cada lote se resuelve, sin acumular el archivo completo en memoria
+    public void importar(BufferedReader entrada, FormatoDeIntercambio formato,
+                         Consumer<List<ResultadoDeImportacionDTO>> alResolverLote) throws IOException {
+        List<AlumnoDTO> lote = new ArrayList<>(TAMANIO_DE_LOTE);
+        List<Integer> filasDelLote = new ArrayList<>(TAMANIO_DE_LOTE);
+        List<ResultadoDeImportacionDTO> rechazosDeLectura = new ArrayList<>();
+        int fila = 0;
+
+        String linea;
+        while ((linea = entrada.readLine()) != null) {
+            fila++;
+            if (linea.isBlank() || (fila == 1 && formato.esCabecera(linea))) {
+                continue;
+            }
+            try {
+                lote.add(formato.leer(linea, objectMapper));
+                filasDelLote.add(fila);
+            } catch (IllegalArgumentException e) {
+                rechazosDeLectura.add(ResultadoDeImportacionDTO.builder()
+                        .fila(fila)
+                        .estado(ResultadoDeImportacionDTO.Estado.RECHAZADO)
+                        .mensaje(e.getMessage())
+                        .build());
+            }
+
+            if (lote.size() == TAMANIO_DE_LOTE) {
+                resolverLote(lote, filasDelLote, rechazosDeLectura, alResolverLote);
+            }
+        }
+        resolverLote(lote, filasDelLote, rechazosDeLectura, alResolverLote);
+    }
+
+    public void exportar(FormatoDeIntercambio formato, Writer salida) throws IOException {
+        if (formato.cabecera() != null) {
+            salida.write(formato.cabecera());
+            salida.write('\n');
+        }
+        try {
+            alumnoService.recorrerAlumnos(alumno -> {
+                try {
+                    salida.write(formato.escribir(alumno, objectMapper));
+                    salida.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        salida.flush();
+    }
+
+    private void resolverLote(List<AlumnoDTO> lote, List<Integer> filasDelLote,
+                              List<ResultadoDeImportacionDTO> rechazosDeLectura,
+                              Consumer<List<ResultadoDeImportacionDTO>> alResolverLote) {
+        List<ResultadoDeImportacionDTO> resultados = new ArrayList<>(rechazosDeLectura);
+        if (!lote.isEmpty()) {
+            resultados.addAll(alumnoService.importarLote(lote, filasDelLote));
+        }
+        if (!resultados.isEmpty()) {
+            resultados.sort(Comparator.comparingInt(ResultadoDeImportacionDTO::getFila));
+            alResolverLote.accept(resultados);
+        }
+        lote.clear();
+        filasDelLote.clear();
+        rechazosDeLectura.clear();
+    }
+}
@@ -0,0 +1,40 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Acumulador de errores por campo. El mapa se crea recién con el primer error, así que
+// validar un alumno correcto no reserva nada.
+public class ErroresDeValidacion {
+    public static final String MENSAJE = "Errores de validación";
+
+    private Map<String, String> errores;
+
+    public void agregar(String campo, String error) {
+        if (errores == null) {
+            errores = new LinkedHashMap<>(4);
+        }
+        errores.putIfAbsent(campo, error);
+    }
+
+    public boolean hayErrores() {
+        return errores != null;
+    }
+
+    public Map<String, String> getErrores() {
+        return errores == null ? Collections.emptyMap() : errores;
+    }
+
+    public ValidationException comoExcepcion() {
+        return new ValidationException(MENSAJE, getErrores());
+    }
+
+    public void lanzarSiHayErrores() {
+        if (hayErrores()) {
+            throw comoExcepcion();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+
+@FunctionalInterface
+public interface ReglaDeValidacion {
+
+    void validar(AlumnoDTO alumnoDTO, ErroresDeValidacion errores);
+}
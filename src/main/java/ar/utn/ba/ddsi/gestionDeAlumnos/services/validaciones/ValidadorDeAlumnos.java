@@ -0,0 +1,103 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.validaciones;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Pipeline de reglas de validación de alumnos. Las reglas se aplican en orden y la primera
+// que encuentra errores corta la validación, igual que antes: si faltan datos básicos no se
+// informan todavía los errores de contactos.
+@Component
+public class ValidadorDeAlumnos {
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private final List<ReglaDeValidacion> reglas = List.of(
+            ValidadorDeAlumnos::validarDatosBasicos,
+            ValidadorDeAlumnos::validarContactos
+    );
+
+    public void validar(AlumnoDTO alumnoDTO) {
+        revisar(alumnoDTO).lanzarSiHayErrores();
+    }
+
+    public ErroresDeValidacion revisar(AlumnoDTO alumnoDTO) {
+        ErroresDeValidacion errores = new ErroresDeValidacion();
+        for (ReglaDeValidacion regla : reglas) {
+            regla.validar(alumnoDTO, errores);
+            if (errores.hayErrores()) {
+                break;
+            }
+        }
+        return errores;
+    }
+
+    // Devuelve un resultado por alumno, en el mismo orden, sin lanzar excepciones
+    public List<ErroresDeValidacion> validarLote(List<AlumnoDTO> alumnosDTO) {
+        List<ErroresDeValidacion> resultados = new ArrayList<>(alumnosDTO.size());
+        for (AlumnoDTO alumnoDTO : alumnosDTO) {
+            resultados.add(revisar(alumnoDTO));
+        }
+        return resultados;
+    }
+
+    private static void validarDatosBasicos(AlumnoDTO alumnoDTO, ErroresDeValidacion errores) {
+        if (estaVacio(alumnoDTO.getLegajo())) {
+            errores.agregar("legajo", "El legajo es obligatorio");
+        }
+
+        if (estaVacio(alumnoDTO.getNombre())) {
+            errores.agregar("nombre", "El nombre es obligatorio");
+        }
+
+        if (estaVacio(alumnoDTO.getApellido())) {
+            errores.agregar("apellido", "El apellido es obligatorio");
+        }
+    }
+
+    private static void validarContactos(AlumnoDTO alumnoDTO, ErroresDeValidacion errores) {
+        List<ContactoDTO> contactos = alumnoDTO.getContactos();
+        if (contactos == null) {
+            return;
+        }
+
+        for (int i = 0; i < contactos.size(); i++) {
+            ContactoDTO contacto = contactos.get(i);
+
+            // Si el contacto tiene algún campo completado, validar que esté completo
+            boolean tieneTipo = contacto.getTipoContacto() != null;
+            boolean tieneValor = !estaVacio(contacto.getValor());
+
+            if (tieneTipo && !tieneValor) {
+                errores.agregar("contactos[" + i + "].valor", "El valor del contacto es obligatorio");
+            }
+
+            if (tieneValor && !tieneTipo) {
+                errores.agregar("contactos[" + i + "].tipoContacto", "El tipo de contacto es obligatorio");
+            }
+
+            // Validar formato de email
+            if (tieneTipo && tieneValor && contacto.getTipoContacto() == TipoContacto.EMAIL
+                    && !EMAIL.matcher(contacto.getValor()).matches()) {
+                errores.agregar("contactos[" + i + "].valor", "El formato del email no es válido");
+            }
+        }
+    }
+
+    // Equivale a trim().isEmpty() sin crear un String nuevo
+    private static boolean estaVacio(String valor) {
+        if (valor == null) {
+            return true;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
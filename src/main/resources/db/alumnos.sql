@@ -0,0 +1,30 @@
+-- Esquema del repositorio jdbc (alumnos.repositorio.modo=jdbc)
+
+-- secuencia da el orden de alta; clave_apellido y texto_normalizado se calculan al guardar
+-- para que el orden por apellido y el filtro del listado los resuelva la base con un índice
+CREATE TABLE IF NOT EXISTS alumno (
+    legajo            VARCHAR     NOT NULL PRIMARY KEY,
+    secuencia         BIGINT      NOT NULL,
+    nombre            VARCHAR     NOT NULL,
+    apellido          VARCHAR     NOT NULL,
+    version           BIGINT      NOT NULL,
+    clave_apellido    VARCHAR     NOT NULL,
+    texto_normalizado VARCHAR     NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS alumno_por_secuencia ON alumno (secuencia);
+CREATE UNIQUE INDEX IF NOT EXISTS alumno_por_apellido ON alumno (clave_apellido);
+
+-- El id lo puede traer el cliente, por eso la clave es la posición dentro del alumno
+CREATE TABLE IF NOT EXISTS contacto (
+    legajo   VARCHAR     NOT NULL,
+    posicion INT         NOT NULL,
+    id       BIGINT      NOT NULL,
+    tipo     VARCHAR(16) NOT NULL,
+    valor    VARCHAR     NOT NULL,
+    PRIMARY KEY (legajo, posicion),
+    CONSTRAINT contacto_de_alumno FOREIGN KEY (legajo) REFERENCES alumno (legajo) ON DELETE CASCADE
+);
+
+CREATE SEQUENCE IF NOT EXISTS alumno_secuencia;
+-- Los ids de contacto se reservan de a bloques de 100
+CREATE SEQUENCE IF NOT EXISTS contacto_id INCREMENT BY 100;
@@ -14,6 +14,11 @@ document.addEventListener('DOMContentLoaded', function() {
         }
     });
     
+    const buscador = document.getElementById('buscar-alumnos');
+    if (buscador) {
+        buscador.addEventListener('input', () => sugerirAlumnos(buscador.value));
+    }
+
     const tableRows = document.querySelectorAll('tbody tr');
     tableRows.forEach((row, index) => {
         row.style.opacity = '0';
@@ -49,25 +54,46 @@ function confirmarEliminacion(legajo, nombreCompleto) {
 }
 
 function filtrarAlumnos(termino) {
-    const filas = document.querySelectorAll('tbody tr');
-    const terminoLower = termino.toLowerCase();
-    
-    filas.forEach(fila => {
-        const textoFila = fila.textContent.toLowerCase();
-        const mostrar = textoFila.includes(terminoLower);
-        
-        fila.style.display = mostrar ? '' : 'none';
-        
-        if (mostrar) {
-            fila.classList.add('fade-in');
-        }
-    });
-    
-    const filasVisibles = document.querySelectorAll('tbody tr[style=""]').length;
-    const contador = document.getElementById('contador-resultados');
-    if (contador) {
-        contador.textContent = `${filasVisibles} alumno(s) encontrado(s)`;
+    // El filtrado se resuelve en el servidor para no descargar el padrón completo
+    const form = document.getElementById('form-filtros');
+    if (!form) {
+        return;
     }
+
+    form.querySelector('input[name="filtro"]').value = termino;
+    form.submit();
+}
+
+let temporizadorDeSugerencias = null;
+
+function sugerirAlumnos(termino) {
+    const contenedor = document.getElementById('sugerencias-alumnos');
+    if (!contenedor) {
+        return;
+    }
+
+    clearTimeout(temporizadorDeSugerencias);
+    if (termino.trim().length < 2) {
+        contenedor.classList.add('d-none');
+        return;
+    }
+
+    temporizadorDeSugerencias = setTimeout(() => {
+        fetch(`/alumnos/buscar?q=${encodeURIComponent(termino)}`)
+            .then(respuesta => respuesta.json())
+            .then(alumnos => {
+                contenedor.innerHTML = '';
+                alumnos.forEach(alumno => {
+                    const item = document.createElement('a');
+                    item.className = 'list-group-item list-group-item-action';
+                    item.href = `/alumnos/${encodeURIComponent(alumno.legajo)}`;
+                    item.textContent = `${alumno.legajo} - ${alumno.nombreCompleto}`;
+                    contenedor.appendChild(item);
+                });
+                contenedor.classList.toggle('d-none', alumnos.length === 0);
+            })
+            .catch(() => contenedor.classList.add('d-none'));
+    }, 200);
 }
 
 function ordenarTabla(indiceColumna) {
@@ -100,9 +126,8 @@ function ordenarTabla(indiceColumna) {
     });
 }
 
-function exportarDatos() {
-    console.log('Función de exportación no implementada aún');
-    alert('Función de exportación próximamente disponible');
+function exportarDatos(formato = 'csv') {
+    window.location.href = `/alumnos/exportar?formato=${encodeURIComponent(formato)}`;
 }
 
 function refrescarLista() {
@@ -0,0 +1,338 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia.PadronMapeado;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia.PersistenciaDeAlumnos;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Los casos durables simulan una caída: nunca llaman a PersistenciaDeAlumnos.cerrar, que
+// tomaría un snapshot final, y vuelven a abrir el mismo directorio con instancias nuevas
+class AlumnosRepositoryEnMemoriaTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void unSnapshotTomadoDuranteUnLoteNoPierdeSusOperaciones() throws IOException {
+        PersistenciaDeAlumnos persistencia = persistencia();
+        AlumnosRepositoryEnMemoria repositorio = repositorio(persistencia);
+        AtomicBoolean tomarSnapshot = new AtomicBoolean();
+        repositorio.registrarObservador(new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                if (tomarSnapshot.compareAndSet(true, false)) {
+                    persistencia.tomarSnapshot().join();
+                }
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+            }
+        });
+
+        tomarSnapshot.set(true);
+        repositorio.aplicarLote(List.of(
+                OperacionDeLote.alta(alumno("L1", "Uno")),
+                OperacionDeLote.alta(alumno("L2", "Dos"))));
+
+        AlumnosRepositoryEnMemoria recuperado = repositorio(persistencia());
+        assertThat(recuperado.findByLegajo("L1")).isPresent();
+        assertThat(recuperado.findByLegajo("L2")).isPresent();
+    }
+
+    @Test
+    void lasBajasYRenombramientosDeAlumnosDelPadronSobrevivenAlSnapshot() throws IOException {
+        Path archivo = directorio.resolve("padron.bin");
+        PadronMapeado.escribir(archivo, List.of(alumno("L1", "Uno"), alumno("L2", "Dos")));
+        PersistenciaDeAlumnos persistencia = persistencia();
+        AlumnosRepositoryEnMemoria repositorio = repositorio(persistencia, new PadronMapeado(archivo.toString()));
+        repositorio.deleteByLegajo("L1");
+        repositorio.update("L2", alumno("L3", "Dos"), null);
+        persistencia.tomarSnapshot().join();
+
+        AlumnosRepositoryEnMemoria recuperado = repositorio(persistencia(), new PadronMapeado(archivo.toString()));
+        assertThat(recuperado.findByLegajo("L1")).isEmpty();
+        assertThat(recuperado.findByLegajo("L2")).isEmpty();
+        assertThat(recuperado.findByLegajo("L3")).isPresent();
+    }
+
+    @Test
+    void seReaplicaElLogEscritoDespuesDelSnapshot() throws IOException {
+        PersistenciaDeAlumnos persistencia = persistencia();
+        AlumnosRepositoryEnMemoria repositorio = repositorio(persistencia);
+        repositorio.insert(alumno("L1", "Uno"));
+        repositorio.insert(alumno("L2", "Dos"));
+        persistencia.tomarSnapshot().join();
+        repositorio.insert(alumno("L3", "Tres"));
+        repositorio.update("L1", alumno("L1", "Modificado"), null);
+        repositorio.deleteByLegajo("L2");
+
+        AlumnosRepositoryEnMemoria recuperado = repositorio(persistencia());
+        assertThat(recuperado.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Modificado");
+        assertThat(recuperado.findByLegajo("L2")).isEmpty();
+        assertThat(recuperado.findByLegajo("L3")).isPresent();
+    }
+
+    @Test
+    void unRenombramientoSobreviveALaRecuperacion() throws IOException {
+        PersistenciaDeAlumnos persistencia = persistencia();
+        AlumnosRepositoryEnMemoria repositorio = repositorio(persistencia);
+        repositorio.insert(alumno("L1", "Uno"));
+        long version = repositorio.findByLegajo("L1").orElseThrow().getVersion();
+        repositorio.update("L1", alumno("L9", "Uno"), version);
+
+        AlumnosRepositoryEnMemoria recuperado = repositorio(persistencia());
+        assertThat(recuperado.findByLegajo("L1")).isEmpty();
+        assertThat(recuperado.findByLegajo("L9")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        // El legajo viejo quedó libre
+        recuperado.insert(alumno("L1", "Otro"));
+        assertThat(recuperado.findByLegajo("L1")).isPresent();
+    }
+
+    @Test
+    void unaVersionVencidaEsUnConflicto() {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        repositorio.insert(alumno("L1", "Uno"));
+        long leida = repositorio.findByLegajo("L1").orElseThrow().getVersion();
+        repositorio.update("L1", alumno("L1", "Primero"), leida);
+
+        assertThatThrownBy(() -> repositorio.update("L1", alumno("L1", "Segundo"), leida))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThatThrownBy(() -> repositorio.update("L1", alumno("L2", "Segundo"), leida))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Primero");
+        assertThat(repositorio.findByLegajo("L2")).isEmpty();
+    }
+
+    @Test
+    void laVersionDeUnAlumnoEliminadoYVueltoACrearNoSirve() {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        repositorio.insert(alumno("L1", "Uno"));
+        Alumno leido = repositorio.findByLegajo("L1").orElseThrow();
+        repositorio.deleteByLegajo("L1");
+        repositorio.insert(alumno("L1", "Nuevo"));
+
+        Alumno cambios = alumno("L1", "Cambiado");
+        cambios.setAlta(leido.getAlta());
+        assertThatThrownBy(() -> repositorio.update("L1", cambios, leido.getVersion()))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Nuevo");
+    }
+
+    // Mientras un lote da de baja L5 el legajo está en movimiento: un renombramiento hacia L5 espera
+    // a que el lote termine en lugar de informarlo como duplicado
+    @Test
+    void unRenombramientoHaciaUnLegajoBloqueadoEsperaEnLugarDeSerDuplicado() throws Exception {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        repositorio.insert(alumno("L1", "Uno"));
+        repositorio.insert(alumno("L5", "Cinco"));
+        CountDownLatch enElLote = new CountDownLatch(1);
+        CountDownLatch seguir = new CountDownLatch(1);
+        repositorio.registrarObservador(observadorQueFrenaEn("L5", enElLote, seguir));
+
+        ExecutorService hilos = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<Integer, RuntimeException>> lote = hilos.submit(() ->
+                    repositorio.aplicarLote(List.of(OperacionDeLote.baja("L5", null))));
+            assertThat(enElLote.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> renombramiento = hilos.submit(() -> repositorio.update("L1", alumno("L5", "Uno"), null));
+            Thread.sleep(100);
+            assertThat(renombramiento).isNotDone();
+
+            seguir.countDown();
+            assertThat(lote.get(5, TimeUnit.SECONDS)).isEmpty();
+            renombramiento.get(5, TimeUnit.SECONDS);
+        } finally {
+            seguir.countDown();
+            hilos.shutdownNow();
+        }
+        assertThat(repositorio.findByLegajo("L5")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        assertThat(repositorio.findByLegajo("L1")).isEmpty();
+    }
+
+    // A mitad de un renombramiento el legajo nuevo está reservado y el anterior en movimiento
+    @Test
+    void laCantidadNoCuentaLasReservasDeUnRenombramiento() throws Exception {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        repositorio.insert(alumno("L1", "Uno"));
+        long cantidad = repositorio.count();
+        CountDownLatch renombrando = new CountDownLatch(1);
+        CountDownLatch seguir = new CountDownLatch(1);
+        repositorio.registrarObservador(observadorQueFrenaEn("L9", renombrando, seguir));
+
+        ExecutorService hilos = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> renombramiento = hilos.submit(() -> repositorio.update("L1", alumno("L9", "Uno"), null));
+            assertThat(renombrando.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(repositorio.count()).isEqualTo(cantidad);
+
+            seguir.countDown();
+            renombramiento.get(5, TimeUnit.SECONDS);
+        } finally {
+            seguir.countDown();
+            hilos.shutdownNow();
+        }
+        assertThat(repositorio.count()).isEqualTo(cantidad);
+    }
+
+    @Test
+    void unLoteQueFallaEnElMedioNoDejaNadaAplicado() {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        repositorio.insert(alumno("L1", "Uno"));
+        long versionDelPadron = repositorio.getVersionDelPadron();
+        List<String> avisos = new ArrayList<>();
+        repositorio.registrarObservador(observador(avisos));
+        avisos.clear();
+
+        Alumno conContactoInvalido = alumno("L3", "Tres");
+        conContactoInvalido.agregarContacto(null);
+        List<OperacionDeLote> lote = List.of(
+                OperacionDeLote.modificacion("L1", alumno("L1", "Modificado"), null),
+                OperacionDeLote.alta(alumno("L2", "Dos")),
+                OperacionDeLote.alta(conContactoInvalido),
+                OperacionDeLote.baja("A001", null));
+
+        assertThatThrownBy(() -> repositorio.aplicarLote(lote)).isInstanceOf(NullPointerException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        assertThat(repositorio.findByLegajo("L2")).isEmpty();
+        assertThat(repositorio.findByLegajo("A001")).isPresent();
+        assertThat(repositorio.findAll()).extracting(Alumno::getApellido).doesNotContain("Modificado", "Dos");
+        assertThat(repositorio.findAll("dos", OrdenDeAlumnos.APELLIDO)).isEmpty();
+        assertThat(repositorio.getVersionDelPadron()).isEqualTo(versionDelPadron);
+        assertThat(avisos).isEmpty();
+        // Los legajos quedaron libres
+        repositorio.insert(alumno("L2", "Dos"));
+        repositorio.deleteByLegajo("A001");
+    }
+
+    @Test
+    void unLoteQueNoSePuedeRegistrarEnElLogNoDejaNadaAplicado() throws IOException {
+        AlumnosRepositoryEnMemoria repositorio = repositorio(persistencia());
+        long versionDelPadron = repositorio.getVersionDelPadron();
+        // writeUTF no admite más de 65535 bytes
+        Alumno demasiadoLargo = alumno("L2", "x".repeat(70_000));
+
+        assertThatThrownBy(() -> repositorio.aplicarLote(List.of(
+                OperacionDeLote.alta(alumno("L1", "Uno")),
+                OperacionDeLote.alta(demasiadoLargo)))).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).isEmpty();
+        assertThat(repositorio.getVersionDelPadron()).isEqualTo(versionDelPadron);
+        repositorio.insert(alumno("L1", "Uno"));
+        assertThat(repositorio(persistencia()).findByLegajo("L1")).isPresent();
+    }
+
+    @Test
+    void unObservadorQueFallaNoDeshaceElLoteNiDejaSinAvisoALosDemas() {
+        AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+        AtomicBoolean roto = new AtomicBoolean();
+        repositorio.registrarObservador(new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                if (roto.get()) {
+                    throw new IllegalStateException("observador roto");
+                }
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+                throw new IllegalStateException("observador roto");
+            }
+        });
+        roto.set(true);
+        List<String> avisos = new ArrayList<>();
+        repositorio.registrarObservador(observador(avisos));
+        avisos.clear();
+
+        assertThat(repositorio.aplicarLote(List.of(
+                OperacionDeLote.alta(alumno("L1", "Uno")),
+                OperacionDeLote.baja("A001", null)))).isEmpty();
+
+        assertThat(repositorio.findByLegajo("L1")).isPresent();
+        assertThat(repositorio.findByLegajo("A001")).isEmpty();
+        assertThat(avisos).containsExactly("alta L1", "baja A001");
+    }
+
+    private PersistenciaDeAlumnos persistencia() throws IOException {
+        return new PersistenciaDeAlumnos(directorio.resolve("log").toString(), Long.MAX_VALUE, 1024);
+    }
+
+    private static AlumnosRepositoryEnMemoria repositorio(PersistenciaDeAlumnos persistencia) {
+        return new AlumnosRepositoryEnMemoria(Optional.of(persistencia), Optional.empty(), Optional.empty());
+    }
+
+    private static AlumnosRepositoryEnMemoria repositorio(PersistenciaDeAlumnos persistencia, PadronMapeado padron) {
+        return new AlumnosRepositoryEnMemoria(Optional.of(persistencia), Optional.of(padron), Optional.empty());
+    }
+
+    // Frena al hilo que modifica o da de baja el legajo hasta que se le indique seguir. Las altas no,
+    // así la reproducción del estado al registrarlo no frena a nadie
+    private static ObservadorDeAlumnos observadorQueFrenaEn(String legajo, CountDownLatch frenado, CountDownLatch seguir) {
+        return new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                if (anterior != null) {
+                    frenarSi(nuevo);
+                }
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+                frenarSi(eliminado);
+            }
+
+            private void frenarSi(Alumno alumno) {
+                if (alumno.getLegajo().equals(legajo) && frenado.getCount() > 0) {
+                    frenado.countDown();
+                    try {
+                        seguir.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+    }
+
+    private static ObservadorDeAlumnos observador(List<String> avisos) {
+        return new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                avisos.add((anterior == null ? "alta " : "modificacion ") + nuevo.getLegajo());
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+                avisos.add("baja " + eliminado.getLegajo());
+            }
+        };
+    }
+
+    private static Alumno alumno(String legajo, String apellido) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo);
+        alumno.setNombre("Alumno");
+        alumno.setApellido(apellido);
+        return alumno;
+    }
+}
@@ -0,0 +1,109 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.indices;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class IndiceDeBusquedaTest {
+    private final IndiceDeBusqueda indice = new IndiceDeBusqueda(mock(AlumnosRepository.class));
+
+    @Test
+    void encuentraPorPrefijoEnOrdenDeLegajoYHastaElLimite() {
+        indice.alGuardar(null, alumno("L3", "Juana", "Martínez", "juana@gmail.com"));
+        indice.alGuardar(null, alumno("L1", "Juan", "Pérez", "juan@gmail.com"));
+        indice.alGuardar(null, alumno("L2", "Julián", "Gómez", "julian@hotmail.com"));
+
+        assertThat(indice.buscar("ju", 10)).containsExactly("L1", "L2", "L3");
+        assertThat(indice.buscar("ju", 2)).containsExactly("L1", "L2");
+        assertThat(indice.buscar("juan", 10)).containsExactly("L1", "L3");
+        assertThat(indice.buscar("ju gmail", 10)).containsExactly("L1", "L3");
+        assertThat(indice.buscar("ju mar", 10)).containsExactly("L3");
+        assertThat(indice.buscar("xyz", 10)).isEmpty();
+        assertThat(indice.buscar("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void ignoraAcentosYMayusculas() {
+        indice.alGuardar(null, alumno("L1", "Juan", "Pérez", "juan@gmail.com"));
+
+        assertThat(indice.buscar("perez", 10)).containsExactly("L1");
+        assertThat(indice.buscar("PÉREZ", 10)).containsExactly("L1");
+        assertThat(indice.buscar("pér", 10)).containsExactly("L1");
+    }
+
+    @Test
+    void unaModificacionOUnaBajaDejanDeEncontrarLosTerminosViejos() {
+        Alumno original = alumno("L1", "Juan", "Pérez", "juan@gmail.com");
+        indice.alGuardar(null, original);
+        Alumno modificado = alumno("L1", "Juan", "Gómez", "juan@gmail.com");
+        indice.alGuardar(original, modificado);
+
+        assertThat(indice.buscar("perez", 10)).isEmpty();
+        assertThat(indice.buscar("gomez", 10)).containsExactly("L1");
+
+        indice.alEliminar(modificado);
+        assertThat(indice.buscar("juan", 10)).isEmpty();
+    }
+
+    // En cada vuelta un alumno se da de baja y deja vacía la lista de un término justo cuando otro
+    // con ese mismo término se da de alta: el alta no se puede perder con la lista eliminada
+    @Test
+    void unAltaConcurrenteConLaBajaQueVaciaElTerminoNoSePierde() throws Exception {
+        int vueltas = 5_000;
+        CyclicBarrier largada = new CyclicBarrier(2);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> bajas = ejecutor.submit(() -> {
+                for (int i = 0; i < vueltas; i++) {
+                    Alumno pasajero = alumno("P" + i, "Pasajero", "k" + i + "z", "p@gmail.com");
+                    indice.alGuardar(null, pasajero);
+                    largada.await();
+                    indice.alEliminar(pasajero);
+                }
+                return null;
+            });
+            Future<?> altas = ejecutor.submit(() -> {
+                for (int i = 0; i < vueltas; i++) {
+                    largada.await();
+                    indice.alGuardar(null, alumno("E" + i, "Estable", "k" + i + "z", "e@gmail.com"));
+                }
+                return null;
+            });
+            bajas.get();
+            altas.get();
+        } finally {
+            ejecutor.shutdown();
+        }
+
+        List<Integer> perdidos = IntStream.range(0, vueltas)
+                .filter(i -> !indice.buscar("k" + i + "z", 10).equals(List.of("E" + i)))
+                .boxed()
+                .toList();
+        assertThat(perdidos).isEmpty();
+        assertThat(indice.buscar("gmail", Integer.MAX_VALUE)).hasSize(vueltas);
+    }
+
+    private static Alumno alumno(String legajo, String nombre, String apellido, String email) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo);
+        alumno.setNombre(nombre);
+        alumno.setApellido(apellido);
+        Contacto contacto = new Contacto();
+        contacto.setTipoContacto(TipoContacto.EMAIL);
+        contacto.setValor(email);
+        alumno.agregarContacto(contacto);
+        return alumno;
+    }
+}
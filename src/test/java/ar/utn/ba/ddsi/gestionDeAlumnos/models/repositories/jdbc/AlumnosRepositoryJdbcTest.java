@@ -0,0 +1,328 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.jdbc;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepositoryEnMemoria;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OrdenDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.Pagina;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Cada caso arranca con una H2 en memoria propia con el esquema de db/alumnos.sql. Donde el
+// contrato lo permite, el resultado se compara con el del repositorio en memoria.
+class AlumnosRepositoryJdbcTest {
+
+    private EmbeddedDatabase base;
+    private AlumnosRepositoryJdbc repositorio;
+
+    @BeforeEach
+    void crearBase() {
+        base = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("db/alumnos.sql")
+                .build();
+        repositorio = new AlumnosRepositoryJdbc(new JdbcTemplate(base),
+                new TransactionTemplate(new DataSourceTransactionManager(base)));
+    }
+
+    @AfterEach
+    void cerrarBase() {
+        base.shutdown();
+    }
+
+    @Test
+    void lasPaginasRecorrenLosTresOrdenesIgualQueEnMemoria() {
+        AlumnosRepositoryEnMemoria enMemoria = new AlumnosRepositoryEnMemoria();
+        List<Alumno> alumnos = List.of(
+                alumno("B10", "Juan", "Pérez"),
+                alumno("B2", "Ana", "perez"),
+                alumno("B3", "Ana", "Álvarez"),
+                alumno("B1", "Ana", "Alvarez"),
+                alumno("C1", "Zoe", "Zapata"),
+                alumno("B11", "Ana", "Gómez"),
+                alumno("B4", "Luis", "Gómez"));
+        alumnos.forEach(alumno -> repositorio.insert(copia(alumno)));
+        alumnos.forEach(alumno -> enMemoria.insert(copia(alumno)));
+
+        for (OrdenDeAlumnos orden : OrdenDeAlumnos.values()) {
+            for (String filtro : new String[]{null, "ana", "perez"}) {
+                List<String> esperados = legajos(enMemoria.findAll(filtro, orden));
+                assertThat(esperados).isNotEmpty();
+                assertThat(recorrerDeAPaginas(repositorio, filtro, orden, 2)).as("%s %s", orden, filtro)
+                        .containsExactlyElementsOf(esperados);
+                assertThat(legajos(repositorio.findAll(filtro, orden))).as("%s %s", orden, filtro)
+                        .containsExactlyElementsOf(esperados);
+            }
+        }
+    }
+
+    @Test
+    void laPaginaTraeLosContactosDeCadaAlumnoEnOrden() {
+        Alumno conContactos = alumno("L1", "Uno", "Uno");
+        conContactos.agregarContacto(contacto(TipoContacto.EMAIL, "uno@email.com"));
+        conContactos.agregarContacto(contacto(TipoContacto.TELEFONO, "1111"));
+        repositorio.insert(conContactos);
+
+        Pagina<Alumno> pagina = repositorio.findPage("uno", OrdenDeAlumnos.LEGAJO, null, 1);
+
+        assertThat(pagina.getElementos()).singleElement().satisfies(alumno ->
+                assertThat(alumno.getContactos()).extracting(Contacto::getValor).containsExactly("uno@email.com", "1111"));
+        assertThat(pagina.getElementos().get(0).getContactos()).allSatisfy(contacto ->
+                assertThat(contacto.getId()).isPositive());
+        assertThat(pagina.hayMas()).isFalse();
+    }
+
+    @Test
+    void unCursorInvalidoVuelveALaPrimeraPagina() {
+        Pagina<Alumno> primera = repositorio.findPage(null, OrdenDeAlumnos.ALTA, null, 2);
+
+        Pagina<Alumno> conCursorInvalido = repositorio.findPage(null, OrdenDeAlumnos.ALTA, "%%no-es-base64", 2);
+
+        assertThat(legajos(conCursorInvalido.getElementos())).isEqualTo(legajos(primera.getElementos()));
+        assertThat(conCursorInvalido.esPrimera()).isTrue();
+    }
+
+    @Test
+    void insertarUnLegajoExistenteEsUnDuplicado() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        long cantidad = repositorio.count();
+        long versionDelPadron = repositorio.getVersionDelPadron();
+
+        assertThatThrownBy(() -> repositorio.insert(alumno("L1", "Otro", "Otro")))
+                .isInstanceOf(DuplicateLegajoException.class);
+        assertThatThrownBy(() -> repositorio.insert(alumno(" L1 ", "Otro", "Otro")))
+                .isInstanceOf(DuplicateLegajoException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        assertThat(repositorio.count()).isEqualTo(cantidad);
+        assertThat(repositorio.getVersionDelPadron()).isEqualTo(versionDelPadron);
+    }
+
+    @Test
+    void unaVersionVencidaEsUnConflicto() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        long leida = repositorio.findByLegajo("L1").orElseThrow().getVersion();
+        repositorio.update("L1", alumno("L1", "Uno", "Primero"), leida);
+
+        assertThatThrownBy(() -> repositorio.update("L1", alumno("L1", "Uno", "Segundo"), leida))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThatThrownBy(() -> repositorio.update("L1", alumno("L2", "Uno", "Segundo"), leida))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThat(repositorio.findByLegajo("L1")).get().satisfies(alumno -> {
+            assertThat(alumno.getApellido()).isEqualTo("Primero");
+            assertThat(alumno.getVersion()).isEqualTo(leida + 1);
+        });
+        assertThat(repositorio.findByLegajo("L2")).isEmpty();
+    }
+
+    @Test
+    void laVersionDeUnAlumnoEliminadoYVueltoACrearNoSirve() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        Alumno leido = repositorio.findByLegajo("L1").orElseThrow();
+        repositorio.deleteByLegajo("L1");
+        repositorio.insert(alumno("L1", "Uno", "Nuevo"));
+
+        Alumno cambios = alumno("L1", "Uno", "Cambiado");
+        cambios.setAlta(leido.getAlta());
+        assertThatThrownBy(() -> repositorio.update("L1", cambios, leido.getVersion()))
+                .isInstanceOf(ConflictoDeVersionException.class);
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Nuevo");
+    }
+
+    @Test
+    void unRenombramientoMueveAlAlumnoConSusContactosYLiberaElLegajo() {
+        Alumno original = alumno("L1", "Uno", "Uno");
+        original.agregarContacto(contacto(TipoContacto.EMAIL, "uno@email.com"));
+        repositorio.insert(original);
+        Alumno leido = repositorio.findByLegajo("L1").orElseThrow();
+        long cantidad = repositorio.count();
+
+        Alumno renombrado = alumno("L9", "Uno", "Uno");
+        renombrado.agregarContacto(contacto(TipoContacto.TELEFONO, "9999"));
+        repositorio.update("L1", renombrado, leido.getVersion());
+
+        assertThat(repositorio.findByLegajo("L1")).isEmpty();
+        assertThat(repositorio.findByLegajo("L9")).get().satisfies(alumno -> {
+            assertThat(alumno.getAlta()).isEqualTo(leido.getAlta());
+            assertThat(alumno.getVersion()).isEqualTo(leido.getVersion() + 1);
+            assertThat(alumno.getContactos()).extracting(Contacto::getValor).containsExactly("9999");
+        });
+        assertThat(repositorio.count()).isEqualTo(cantidad);
+        // Conserva su lugar en el orden de alta
+        assertThat(legajos(repositorio.findAll())).endsWith("L9");
+        repositorio.insert(alumno("L1", "Otro", "Otro"));
+        assertThat(repositorio.findByLegajo("L1")).isPresent();
+    }
+
+    @Test
+    void renombrarHaciaUnLegajoOcupadoEsUnDuplicado() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        repositorio.insert(alumno("L2", "Dos", "Dos"));
+
+        assertThatThrownBy(() -> repositorio.update("L1", alumno("L2", "Uno", "Uno"), null))
+                .isInstanceOf(DuplicateLegajoException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        assertThat(repositorio.findByLegajo("L2")).get().extracting(Alumno::getApellido).isEqualTo("Dos");
+    }
+
+    @Test
+    void unLoteConUnaOperacionInvalidaNoAplicaNingunaYDevuelveSuPosicion() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        long versionDelPadron = repositorio.getVersionDelPadron();
+
+        Map<Integer, RuntimeException> errores = repositorio.aplicarLote(List.of(
+                OperacionDeLote.modificacion("L1", alumno("L1", "Uno", "Modificado"), null),
+                OperacionDeLote.alta(alumno("L2", "Dos", "Dos")),
+                OperacionDeLote.alta(alumno("A001", "Repetido", "Repetido")),
+                OperacionDeLote.baja("A002", null)));
+
+        assertThat(errores).containsOnlyKeys(2);
+        assertThat(errores.get(2)).isInstanceOf(DuplicateLegajoException.class);
+        assertThat(repositorio.findByLegajo("L1")).get().extracting(Alumno::getApellido).isEqualTo("Uno");
+        assertThat(repositorio.findByLegajo("L2")).isEmpty();
+        assertThat(repositorio.findByLegajo("A002")).isPresent();
+        assertThat(repositorio.getVersionDelPadron()).isEqualTo(versionDelPadron);
+    }
+
+    // El contacto sin valor viola el NOT NULL en el último batch, con el resto de las sentencias ya ejecutadas
+    @Test
+    void unLoteQueFallaEnLaBaseSeDeshaceCompleto() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        Alumno leido = repositorio.findByLegajo("L1").orElseThrow();
+        long cantidad = repositorio.count();
+        long versionDelPadron = repositorio.getVersionDelPadron();
+        List<String> avisos = new ArrayList<>();
+        repositorio.registrarObservador(observador(avisos));
+        avisos.clear();
+
+        Alumno conContactoInvalido = alumno("L3", "Tres", "Tres");
+        conContactoInvalido.agregarContacto(contacto(TipoContacto.EMAIL, null));
+        List<OperacionDeLote> lote = List.of(
+                OperacionDeLote.modificacion("L1", alumno("L7", "Uno", "Renombrado"), null),
+                OperacionDeLote.alta(alumno("L2", "Dos", "Dos")),
+                OperacionDeLote.alta(conContactoInvalido),
+                OperacionDeLote.baja("A001", null));
+
+        assertThatThrownBy(() -> repositorio.aplicarLote(lote)).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).get().satisfies(alumno -> {
+            assertThat(alumno.getApellido()).isEqualTo("Uno");
+            assertThat(alumno.getVersion()).isEqualTo(leido.getVersion());
+        });
+        assertThat(repositorio.findByLegajo("L7")).isEmpty();
+        assertThat(repositorio.findByLegajo("L2")).isEmpty();
+        assertThat(repositorio.findByLegajo("L3")).isEmpty();
+        assertThat(repositorio.findByLegajo("A001")).get().extracting(Alumno::getContactos).asList().isNotEmpty();
+        assertThat(repositorio.count()).isEqualTo(cantidad);
+        assertThat(repositorio.getVersionDelPadron()).isEqualTo(versionDelPadron);
+        assertThat(avisos).isEmpty();
+        // Los legajos quedaron libres
+        repositorio.insert(alumno("L2", "Dos", "Dos"));
+        repositorio.deleteByLegajo("A001");
+    }
+
+    @Test
+    void unLegajoRepetidoEnElLoteSeRechazaSinAplicarNada() {
+        assertThatThrownBy(() -> repositorio.aplicarLote(List.of(
+                OperacionDeLote.alta(alumno("L1", "Uno", "Uno")),
+                OperacionDeLote.modificacion("A001", alumno("L1", "Juan", "Pérez"), null))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).isEmpty();
+        assertThat(repositorio.findByLegajo("A001")).isPresent();
+    }
+
+    @Test
+    void alRegistrarseElObservadorRecibeElPadronEnOrdenDeAltaYDespuesLosCambios() {
+        repositorio.insert(alumno("L1", "Uno", "Uno"));
+        List<String> esperados = new ArrayList<>();
+        repositorio.findAll().forEach(alumno -> esperados.add("alta " + alumno.getLegajo()));
+        List<String> avisos = new ArrayList<>();
+
+        repositorio.registrarObservador(observador(avisos));
+        assertThat(avisos).containsExactlyElementsOf(esperados);
+
+        avisos.clear();
+        repositorio.update("L1", alumno("L9", "Uno", "Uno"), null);
+        repositorio.deleteByLegajo("A001");
+        assertThatThrownBy(() -> repositorio.insert(alumno("L9", "Otro", "Otro")))
+                .isInstanceOf(DuplicateLegajoException.class);
+        assertThat(avisos).containsExactly("modificacion L9", "baja A001");
+    }
+
+    private static List<String> recorrerDeAPaginas(AlumnosRepository repositorio, String filtro, OrdenDeAlumnos orden,
+                                                   int tamanio) {
+        List<String> legajos = new ArrayList<>();
+        String cursor = null;
+        do {
+            Pagina<Alumno> pagina = repositorio.findPage(filtro, orden, cursor, tamanio);
+            if (pagina.hayMas()) {
+                assertThat(pagina.getElementos()).hasSize(tamanio);
+            }
+            legajos.addAll(legajos(pagina.getElementos()));
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+        return legajos;
+    }
+
+    private static List<String> legajos(Iterable<Alumno> alumnos) {
+        return StreamSupport.stream(alumnos.spliterator(), false).map(Alumno::getLegajo).toList();
+    }
+
+    private static ObservadorDeAlumnos observador(List<String> avisos) {
+        return new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                avisos.add((anterior == null ? "alta " : "modificacion ") + nuevo.getLegajo());
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+                avisos.add("baja " + eliminado.getLegajo());
+            }
+        };
+    }
+
+    private static Alumno copia(Alumno alumno) {
+        return alumno(alumno.getLegajo(), alumno.getNombre(), alumno.getApellido());
+    }
+
+    private static Alumno alumno(String legajo, String nombre, String apellido) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo);
+        alumno.setNombre(nombre);
+        alumno.setApellido(apellido);
+        return alumno;
+    }
+
+    private static Contacto contacto(TipoContacto tipo, String valor) {
+        Contacto contacto = new Contacto();
+        contacto.setTipoContacto(tipo);
+        contacto.setValor(valor);
+        return contacto;
+    }
+}
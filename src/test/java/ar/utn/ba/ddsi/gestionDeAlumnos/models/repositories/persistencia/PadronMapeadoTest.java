@@ -0,0 +1,74 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Contacto;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PadronMapeadoTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void losAlumnosQueNoEntranEnUnRegistroQuedanAfueraYSeInforman() throws IOException {
+        Alumno conCincoContactos = alumno("L2", "Dos", 5);
+        Alumno conApellidoLargo = alumno("L3", "x".repeat(60), 0);
+        Path archivo = directorio.resolve("padron.bin");
+
+        List<String> omitidos = PadronMapeado.escribir(archivo,
+                List.of(alumno("L1", "Pérez", 4), conCincoContactos, conApellidoLargo, alumno("L4", "Cuatro", 0)));
+
+        assertThat(omitidos).containsExactly("L2", "L3");
+        PadronMapeado padron = new PadronMapeado(archivo.toString());
+        assertThat(padron.getCantidad()).isEqualTo(2);
+        List<String> legajos = new ArrayList<>();
+        padron.recorrer(alumno -> legajos.add(alumno.getLegajo()));
+        assertThat(legajos).containsExactly("L1", "L4");
+    }
+
+    @Test
+    void laVistaDecodificaElRegistroUnaSolaVez() throws IOException {
+        Path archivo = directorio.resolve("padron.bin");
+        PadronMapeado.escribir(archivo, List.of(alumno("L1", "Pérez", 2)));
+        List<Alumno> vistas = new ArrayList<>();
+        new PadronMapeado(archivo.toString()).recorrer(vistas::add);
+        Alumno vista = vistas.get(0);
+
+        assertThat(vista.getNombre()).isEqualTo("Alumno");
+        assertThat(vista.getApellido()).isEqualTo("Pérez");
+        assertThat(vista.getContactos()).extracting(Contacto::getId, Contacto::getTipoContacto, Contacto::getValor)
+                .containsExactly(
+                        tuple(1L, TipoContacto.EMAIL, "l1-0@mail.com"),
+                        tuple(2L, TipoContacto.EMAIL, "l1-1@mail.com"));
+        // Mientras el GC no la suelte, todas las lecturas comparten la misma copia decodificada
+        assertThat(vista.getContactos()).isSameAs(vista.getContactos());
+        assertThat(vista.getApellido()).isSameAs(vista.getApellido());
+        assertThatThrownBy(() -> vista.getContactos().add(new Contacto())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Alumno alumno(String legajo, String apellido, int contactos) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo);
+        alumno.setNombre("Alumno");
+        alumno.setApellido(apellido);
+        for (int i = 0; i < contactos; i++) {
+            Contacto contacto = new Contacto();
+            contacto.setId(i + 1);
+            contacto.setTipoContacto(TipoContacto.EMAIL);
+            contacto.setValor(legajo.toLowerCase() + "-" + i + "@mail.com");
+            alumno.agregarContacto(contacto);
+        }
+        return alumno;
+    }
+}
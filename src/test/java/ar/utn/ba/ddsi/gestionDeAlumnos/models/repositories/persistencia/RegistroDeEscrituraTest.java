@@ -0,0 +1,223 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.persistencia;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.PersistenciaNoDisponibleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistroDeEscrituraTest {
+
+    @TempDir
+    Path directorio;
+
+    private CanalQueFalla canal;
+
+    @Test
+    void unFsyncFallidoSeInformaYLoEscritoNoReaparece() throws IOException {
+        RegistroDeEscritura registro = registroQueFalla();
+        registro.iniciar(0);
+        canal.fallarFsync = true;
+
+        assertThatThrownBy(() -> registro.agregar(bytes("uno")).join())
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(PersistenciaNoDisponibleException.class)
+                .cause().isInstanceOf(IOException.class);
+        assertThat(registro.falla()).isNotNull();
+        // El log ya no acepta entradas
+        assertThat(registro.agregar(bytes("dos"))).isCompletedExceptionally();
+        registro.cerrar();
+
+        assertThat(reproducir()).isEmpty();
+    }
+
+    @Test
+    void unaEscrituraCortadaSeRecortaHastaLoConfirmado() throws IOException {
+        RegistroDeEscritura registro = registroQueFalla();
+        registro.iniciar(0);
+        registro.agregar(bytes("uno")).join();
+        canal.cortarEscrituraEn = 5;
+
+        assertThatThrownBy(() -> registro.agregar(bytes("dos")).join())
+                .cause().isInstanceOf(PersistenciaNoDisponibleException.class);
+        registro.cerrar();
+
+        // Largo, datos y CRC de "uno": el registro a medias no quedó en el segmento
+        assertThat(Files.size(rutaDe(0))).isEqualTo(4 + 3 + 4);
+        assertThat(reproducir()).containsExactly("uno");
+    }
+
+    // Si ni siquiera se pudo recortar, el registro roto queda en el medio del log: al reiniciar se
+    // escribe en un segmento nuevo y lo confirmado después se sigue reproduciendo
+    @Test
+    void seReproduceLoConfirmadoDespuesDeUnRegistroRoto() throws IOException {
+        RegistroDeEscritura registro = registroQueFalla();
+        registro.iniciar(0);
+        registro.agregar(bytes("uno")).join();
+        canal.cortarEscrituraEn = 5;
+        canal.fallarRecorte = true;
+        assertThatThrownBy(() -> registro.agregar(bytes("dos")).join())
+                .cause().isInstanceOf(PersistenciaNoDisponibleException.class);
+        registro.cerrar();
+        assertThat(Files.size(rutaDe(0))).isEqualTo(4 + 3 + 4 + 5);
+
+        RegistroDeEscritura reiniciado = new RegistroDeEscritura(directorio, 16, cantidad -> { });
+        List<Long> segmentos = reiniciado.segmentos();
+        reiniciado.iniciar(segmentos.get(segmentos.size() - 1) + 1);
+        reiniciado.agregar(bytes("tres")).join();
+        reiniciado.cerrar();
+
+        assertThat(reproducir()).containsExactly("uno", "tres");
+    }
+
+    private RegistroDeEscritura registroQueFalla() {
+        return new RegistroDeEscritura(directorio, 16, cantidad -> { }, ruta -> {
+            canal = new CanalQueFalla(FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND));
+            return canal;
+        });
+    }
+
+    private List<String> reproducir() throws IOException {
+        List<String> leidas = new ArrayList<>();
+        new RegistroDeEscritura(directorio, 16, cantidad -> { })
+                .reproducir(0, datos -> leidas.add(new String(datos, StandardCharsets.UTF_8)));
+        return leidas;
+    }
+
+    private Path rutaDe(long segmento) {
+        return directorio.resolve(String.format("wal-%020d.log", segmento));
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Delega en un canal real y falla a pedido: en el fsync, al recortar, o escribiendo solo una
+    // parte del buffer antes de fallar
+    private static final class CanalQueFalla extends FileChannel {
+        private final FileChannel real;
+        private volatile boolean fallarFsync;
+        private volatile boolean fallarRecorte;
+        private volatile int cortarEscrituraEn = -1;
+
+        private CanalQueFalla(FileChannel real) {
+            this.real = real;
+        }
+
+        @Override
+        public int write(ByteBuffer origen) throws IOException {
+            if (cortarEscrituraEn >= 0) {
+                ByteBuffer parte = origen.duplicate();
+                parte.limit(parte.position() + Math.min(cortarEscrituraEn, parte.remaining()));
+                real.write(parte);
+                throw new IOException("Escritura cortada");
+            }
+            return real.write(origen);
+        }
+
+        @Override
+        public void force(boolean metadatos) throws IOException {
+            if (fallarFsync) {
+                throw new IOException("fsync fallido");
+            }
+            real.force(metadatos);
+        }
+
+        @Override
+        public FileChannel truncate(long tamanio) throws IOException {
+            if (fallarRecorte) {
+                throw new IOException("Recorte fallido");
+            }
+            real.truncate(tamanio);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer destino) throws IOException {
+            return real.read(destino);
+        }
+
+        @Override
+        public long read(ByteBuffer[] destinos, int desde, int cantidad) throws IOException {
+            return real.read(destinos, desde, cantidad);
+        }
+
+        @Override
+        public long write(ByteBuffer[] origenes, int desde, int cantidad) throws IOException {
+            return real.write(origenes, desde, cantidad);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return real.position();
+        }
+
+        @Override
+        public FileChannel position(long posicion) throws IOException {
+            real.position(posicion);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return real.size();
+        }
+
+        @Override
+        public long transferTo(long posicion, long cantidad, WritableByteChannel destino) throws IOException {
+            return real.transferTo(posicion, cantidad, destino);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel origen, long posicion, long cantidad) throws IOException {
+            return real.transferFrom(origen, posicion, cantidad);
+        }
+
+        @Override
+        public int read(ByteBuffer destino, long posicion) throws IOException {
+            return real.read(destino, posicion);
+        }
+
+        @Override
+        public int write(ByteBuffer origen, long posicion) throws IOException {
+            return real.write(origen, posicion);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode modo, long posicion, long tamanio) throws IOException {
+            return real.map(modo, posicion, tamanio);
+        }
+
+        @Override
+        public FileLock lock(long posicion, long tamanio, boolean compartido) throws IOException {
+            return real.lock(posicion, tamanio, compartido);
+        }
+
+        @Override
+        public FileLock tryLock(long posicion, long tamanio, boolean compartido) throws IOException {
+            return real.tryLock(posicion, tamanio, compartido);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            real.close();
+        }
+    }
+}
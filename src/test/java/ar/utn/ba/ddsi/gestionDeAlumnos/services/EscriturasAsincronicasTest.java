@@ -0,0 +1,52 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AcuseDeEscrituraDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "alumnos.escrituras.modo=asincronico")
+class EscriturasAsincronicasTest {
+
+    @Autowired
+    private AlumnoService alumnoService;
+    @Autowired
+    private AlumnosRepository alumnosRepository;
+
+    // La baja toma la secuencia siguiente a la modificación encolada: se aplica después de ella
+    @Test
+    void unaBajaPasaPorLaColaDetrasDeLasEscriturasPendientesDelLegajo() {
+        alumnoService.crearAlumno(alumno("ASYNC-1", "Uno"));
+
+        AcuseDeEscrituraDTO modificacion = alumnoService.encolarActualizacion("ASYNC-1", alumno("ASYNC-1", "Modificado"), null);
+        alumnoService.eliminarAlumno("ASYNC-1");
+
+        assertThat(alumnoService.consultarEscritura(modificacion.getSecuencia(), 5_000).getEstado())
+                .isEqualTo(AcuseDeEscrituraDTO.Estado.APLICADA);
+        AcuseDeEscrituraDTO baja = alumnoService.consultarEscritura(modificacion.getSecuencia() + 1, 5_000);
+        assertThat(baja.getLegajo()).isEqualTo("ASYNC-1");
+        assertThat(baja.getEstado()).isEqualTo(AcuseDeEscrituraDTO.Estado.APLICADA);
+        assertThat(alumnosRepository.findByLegajo("ASYNC-1")).isEmpty();
+        assertThatThrownBy(() -> alumnoService.obtenerAlumnoPorLegajo("ASYNC-1")).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void darDeBajaUnLegajoInexistenteEsNoEncontrado() {
+        assertThatThrownBy(() -> alumnoService.eliminarAlumno("ASYNC-NO-EXISTE"))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private static AlumnoDTO alumno(String legajo, String apellido) {
+        AlumnoDTO alumno = new AlumnoDTO();
+        alumno.setLegajo(legajo);
+        alumno.setNombre("Alumno");
+        alumno.setApellido(apellido);
+        return alumno;
+    }
+}
@@ -0,0 +1,99 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.escrituras;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ConflictoDeVersionException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.DuplicateLegajoException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.NotFoundException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepositoryEnMemoria;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.ObservadorDeAlumnos;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.OperacionDeLote;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColaDeEscriturasTest {
+    private final AlumnosRepositoryEnMemoria repositorio = new AlumnosRepositoryEnMemoria();
+    private final ColaDeEscrituras cola = new ColaDeEscrituras(repositorio, 100, 100, 100);
+
+    @AfterEach
+    void cerrar() {
+        cola.cerrar();
+    }
+
+    @Test
+    void cadaEscrituraDeUnGrupoConFallasTieneSuPropioResultado() throws InterruptedException {
+        repositorio.insert(alumno("D1", "Existente"));
+        long versionVieja = repositorio.findByLegajo("D1").orElseThrow().getVersion();
+        repositorio.update("D1", alumno("D1", "Modificado"), versionVieja);
+
+        // La primera escritura frena al hilo escritor hasta que las demás están encoladas, así
+        // todas salen en el mismo grupo
+        CountDownLatch escritorFrenado = new CountDownLatch(1);
+        CountDownLatch seguir = new CountDownLatch(1);
+        repositorio.registrarObservador(new ObservadorDeAlumnos() {
+            @Override
+            public void alGuardar(Alumno anterior, Alumno nuevo) {
+                if (nuevo.getLegajo().equals("L0")) {
+                    escritorFrenado.countDown();
+                    esperar(seguir);
+                }
+            }
+
+            @Override
+            public void alEliminar(Alumno eliminado) {
+            }
+        });
+        cola.iniciar(operacion -> AlumnoDTO.builder().legajo(operacion.getLegajo()).build());
+
+        Escritura frenadora = cola.encolar(OperacionDeLote.alta(alumno("L0", "Cero")));
+        assertThat(escritorFrenado.await(5, TimeUnit.SECONDS)).isTrue();
+        Escritura primera = cola.encolar(OperacionDeLote.alta(alumno("L1", "Uno")));
+        Escritura duplicada = cola.encolar(OperacionDeLote.alta(alumno("D1", "Otro")));
+        Escritura inexistente = cola.encolar(OperacionDeLote.baja("ZZ", null));
+        Escritura vencida = cola.encolar(OperacionDeLote.modificacion("D1", alumno("D1", "Viejo"), versionVieja));
+        Escritura ultima = cola.encolar(OperacionDeLote.alta(alumno("L2", "Dos")));
+        seguir.countDown();
+
+        assertThat(frenadora.getResultado()).succeedsWithin(5, TimeUnit.SECONDS)
+                .extracting(AlumnoDTO::getLegajo).isEqualTo("L0");
+        assertThat(primera.getResultado()).succeedsWithin(5, TimeUnit.SECONDS)
+                .extracting(AlumnoDTO::getLegajo).isEqualTo("L1");
+        assertThat(ultima.getResultado()).succeedsWithin(5, TimeUnit.SECONDS)
+                .extracting(AlumnoDTO::getLegajo).isEqualTo("L2");
+        assertThat(duplicada.getResultado()).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DuplicateLegajoException.class);
+        assertThat(inexistente.getResultado()).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(NotFoundException.class);
+        assertThat(vencida.getResultado()).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(ConflictoDeVersionException.class);
+
+        assertThat(repositorio.findByLegajo("L1")).isPresent();
+        assertThat(repositorio.findByLegajo("L2")).isPresent();
+        assertThat(repositorio.findByLegajo("D1")).get().extracting(Alumno::getApellido).isEqualTo("Modificado");
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Alumno alumno(String legajo, String apellido) {
+        Alumno alumno = new Alumno();
+        alumno.setLegajo(legajo);
+        alumno.setNombre("Alumno");
+        alumno.setApellido(apellido);
+        return alumno;
+    }
+}
@@ -0,0 +1,94 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.exceptions.ValidationException;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ContactoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.TipoContacto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FormatoDeIntercambioTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void losCamposConComasOComillasSeCitanYVuelvenALeerseIguales() {
+        AlumnoDTO alumno = alumno("L1", "Juan \"Juancho\"", "Pérez, de la Fuente");
+        alumno.getContactos().add(contacto(TipoContacto.EMAIL, "juan@email.com"));
+        alumno.getContactos().add(contacto(TipoContacto.TELEFONO, "+54 11 1234-5678, int. 2"));
+
+        String linea = FormatoDeIntercambio.CSV.escribir(alumno, objectMapper);
+
+        assertThat(linea).isEqualTo("L1,\"Juan \"\"Juancho\"\"\",\"Pérez, de la Fuente\","
+                + "\"EMAIL:juan@email.com|TELEFONO:+54 11 1234-5678, int. 2\"");
+        AlumnoDTO leido = FormatoDeIntercambio.CSV.leer(linea, objectMapper);
+        assertThat(leido.getLegajo()).isEqualTo("L1");
+        assertThat(leido.getNombre()).isEqualTo("Juan \"Juancho\"");
+        assertThat(leido.getApellido()).isEqualTo("Pérez, de la Fuente");
+        assertThat(leido.getContactos()).extracting(ContactoDTO::getTipoContacto, ContactoDTO::getValor)
+                .containsExactly(
+                        tuple(TipoContacto.EMAIL, "juan@email.com"),
+                        tuple(TipoContacto.TELEFONO, "+54 11 1234-5678, int. 2"));
+    }
+
+    @Test
+    void losCamposSinComasNiComillasSeEscribenTalCual() {
+        assertThat(FormatoDeIntercambio.CSV.escribir(alumno("L1", "Ana", "Gómez"), objectMapper))
+                .isEqualTo("L1,Ana,Gómez,");
+    }
+
+    @Test
+    void laColumnaDeContactosEsOpcional() {
+        AlumnoDTO leido = FormatoDeIntercambio.CSV.leer("L1,Ana,Gómez", objectMapper);
+
+        assertThat(leido.getContactos()).isEmpty();
+    }
+
+    @Test
+    void unaLineaMalFormadaSeInformaComoArgumentoInvalido() {
+        assertThatThrownBy(() -> FormatoDeIntercambio.CSV.leer("L1,Ana", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2");
+        assertThatThrownBy(() -> FormatoDeIntercambio.CSV.leer("L1,Ana,Gómez,sin-tipo", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sin-tipo");
+        assertThatThrownBy(() -> FormatoDeIntercambio.CSV.leer("L1,Ana,Gómez,FAX:1234", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FormatoDeIntercambio.NDJSON.leer("{\"legajo\": ", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("JSON inválido");
+    }
+
+    @Test
+    void soloLaPrimeraLineaQueEmpiezaConLegajoEsCabecera() {
+        assertThat(FormatoDeIntercambio.CSV.esCabecera("Legajo,Nombre,Apellido,Contactos")).isTrue();
+        assertThat(FormatoDeIntercambio.CSV.esCabecera("L1,Ana,Gómez")).isFalse();
+        assertThat(FormatoDeIntercambio.NDJSON.esCabecera("legajo,nombre")).isFalse();
+    }
+
+    @Test
+    void elParametroTienePrioridadSobreElTipoDeContenido() {
+        assertThat(FormatoDeIntercambio.desde("csv", "application/x-ndjson")).isEqualTo(FormatoDeIntercambio.CSV);
+        assertThat(FormatoDeIntercambio.desde(null, "application/x-ndjson")).isEqualTo(FormatoDeIntercambio.NDJSON);
+        assertThat(FormatoDeIntercambio.desde(" ", null)).isEqualTo(FormatoDeIntercambio.CSV);
+        assertThatThrownBy(() -> FormatoDeIntercambio.desde("xml", null)).isInstanceOf(ValidationException.class);
+    }
+
+    private static AlumnoDTO alumno(String legajo, String nombre, String apellido) {
+        AlumnoDTO alumno = new AlumnoDTO();
+        alumno.setLegajo(legajo);
+        alumno.setNombre(nombre);
+        alumno.setApellido(apellido);
+        return alumno;
+    }
+
+    private static ContactoDTO contacto(TipoContacto tipo, String valor) {
+        ContactoDTO contacto = new ContactoDTO();
+        contacto.setTipoContacto(tipo);
+        contacto.setValor(valor);
+        return contacto;
+    }
+}
@@ -0,0 +1,140 @@
+package ar.utn.ba.ddsi.gestionDeAlumnos.services.importacion;
+
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.AlumnoDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeImportacionDTO;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.entities.Alumno;
+import ar.utn.ba.ddsi.gestionDeAlumnos.models.repositories.AlumnosRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeImportacionDTO.Estado.CREADO;
+import static ar.utn.ba.ddsi.gestionDeAlumnos.models.dto.ResultadoDeImportacionDTO.Estado.RECHAZADO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Comparte el contexto con los demás @SpringBootTest: cada caso usa legajos propios
+@SpringBootTest
+class ImportacionDeAlumnosServiceTest {
+
+    @Autowired
+    private ImportacionDeAlumnosService importacionService;
+    @Autowired
+    private AlumnosRepository alumnosRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void cadaFilaRecibeSuResultadoYSoloSeDanDeAltaLasValidas() throws IOException {
+        List<ResultadoDeImportacionDTO> resultados = importar(FormatoDeIntercambio.CSV, """
+                legajo,nombre,apellido,contactos
+                IMP-1,Ana,Gómez,EMAIL:ana@email.com
+                IMP-2,,Sin Nombre
+                IMP-3,Solo dos columnas
+
+                IMP-1,Otra,Ana
+                A001,Repetido,Existente
+                IMP-4,Luis,"Pérez, de la Fuente",EMAIL:no-es-un-email
+                IMP-5,Eva,"Díaz ""Evita""\"
+                """);
+
+        Map<Integer, ResultadoDeImportacionDTO> porFila = resultados.stream()
+                .collect(Collectors.toMap(ResultadoDeImportacionDTO::getFila, Function.identity()));
+        assertThat(resultados).extracting(ResultadoDeImportacionDTO::getFila).containsExactly(2, 3, 4, 6, 7, 8, 9);
+        assertThat(porFila.get(2).getEstado()).isEqualTo(CREADO);
+        assertThat(porFila.get(3).getEstado()).isEqualTo(RECHAZADO);
+        assertThat(porFila.get(3).getErrores()).containsKey("nombre");
+        assertThat(porFila.get(4).getEstado()).isEqualTo(RECHAZADO);
+        assertThat(porFila.get(4).getMensaje()).contains("columnas");
+        assertThat(porFila.get(6).getEstado()).isEqualTo(RECHAZADO);
+        assertThat(porFila.get(6).getMensaje()).contains("IMP-1");
+        assertThat(porFila.get(7).getEstado()).isEqualTo(RECHAZADO);
+        assertThat(porFila.get(7).getMensaje()).contains("A001");
+        assertThat(porFila.get(8).getEstado()).isEqualTo(RECHAZADO);
+        assertThat(porFila.get(8).getErrores()).containsKey("contactos[0].valor");
+        assertThat(porFila.get(9).getEstado()).isEqualTo(CREADO);
+
+        assertThat(alumnosRepository.findByLegajo("IMP-1")).get().extracting(Alumno::getNombre).isEqualTo("Ana");
+        assertThat(alumnosRepository.findByLegajo("IMP-5")).get().extracting(Alumno::getApellido)
+                .isEqualTo("Díaz \"Evita\"");
+        assertThat(alumnosRepository.findByLegajo("IMP-2")).isEmpty();
+        assertThat(alumnosRepository.findByLegajo("IMP-4")).isEmpty();
+        assertThat(alumnosRepository.findByLegajo("A001")).get().extracting(Alumno::getNombre).isEqualTo("Juan");
+    }
+
+    // La fila repetida cae en el lote siguiente: la rechaza el repositorio y el resto de ese lote se da de alta
+    @Test
+    void unLegajoRepetidoEnOtroLoteSeRechazaSinFrenarAlResto() throws IOException {
+        StringBuilder entrada = new StringBuilder();
+        int filas = ImportacionDeAlumnosService.TAMANIO_DE_LOTE + 2;
+        for (int i = 1; i < filas; i++) {
+            entrada.append("{\"legajo\":\"LOTE-").append(i).append("\",\"nombre\":\"N\",\"apellido\":\"A\"}\n");
+        }
+        entrada.append("{\"legajo\":\"LOTE-1\",\"nombre\":\"Otro\",\"apellido\":\"A\"}\n");
+
+        List<List<ResultadoDeImportacionDTO>> lotes = new ArrayList<>();
+        importacionService.importar(new BufferedReader(new StringReader(entrada.toString())),
+                FormatoDeIntercambio.NDJSON, lotes::add);
+
+        assertThat(lotes).hasSize(2);
+        assertThat(lotes.get(0)).hasSize(ImportacionDeAlumnosService.TAMANIO_DE_LOTE)
+                .allSatisfy(resultado -> assertThat(resultado.getEstado()).isEqualTo(CREADO));
+        assertThat(lotes.get(1)).extracting(ResultadoDeImportacionDTO::getFila, ResultadoDeImportacionDTO::getEstado)
+                .containsExactly(
+                        tuple(filas - 1, CREADO),
+                        tuple(filas, RECHAZADO));
+        assertThat(alumnosRepository.findByLegajo("LOTE-1")).get().extracting(Alumno::getNombre).isEqualTo("N");
+        assertThat(alumnosRepository.findByLegajo("LOTE-" + (filas - 1))).isPresent();
+    }
+
+    @Test
+    void laExportacionCsvCitaLosCamposYSeVuelveALeerIgual() throws IOException {
+        importar(FormatoDeIntercambio.CSV, """
+                EXP-1,"Juan ""Juancho""\","Pérez, de la Fuente","EMAIL:juan@email.com|TELEFONO:11 1234, int. 2"
+                """);
+        StringWriter salida = new StringWriter();
+
+        importacionService.exportar(FormatoDeIntercambio.CSV, salida);
+
+        List<String> lineas = salida.toString().lines().toList();
+        assertThat(lineas.get(0)).isEqualTo(FormatoDeIntercambio.CSV.cabecera());
+        assertThat(lineas).hasSize((int) alumnosRepository.count() + 1);
+        String exportada = lineas.stream().filter(linea -> linea.startsWith("EXP-1,")).findFirst().orElseThrow();
+        assertThat(exportada).isEqualTo("EXP-1,\"Juan \"\"Juancho\"\"\",\"Pérez, de la Fuente\","
+                + "\"EMAIL:juan@email.com|TELEFONO:11 1234, int. 2\"");
+        AlumnoDTO leido = FormatoDeIntercambio.CSV.leer(exportada, objectMapper);
+        assertThat(leido.getNombre()).isEqualTo("Juan \"Juancho\"");
+        assertThat(leido.getApellido()).isEqualTo("Pérez, de la Fuente");
+        assertThat(leido.getContactos()).hasSize(2);
+    }
+
+    @Test
+    void laExportacionNdjsonEscribeUnAlumnoPorLineaEnOrdenDeAlta() throws IOException {
+        StringWriter salida = new StringWriter();
+
+        importacionService.exportar(FormatoDeIntercambio.NDJSON, salida);
+
+        List<String> legajos = new ArrayList<>();
+        for (String linea : salida.toString().lines().toList()) {
+            legajos.add(objectMapper.readValue(linea, AlumnoDTO.class).getLegajo());
+        }
+        assertThat(legajos).containsExactlyElementsOf(alumnosRepository.findAll().stream().map(Alumno::getLegajo).toList());
+    }
+
+    private List<ResultadoDeImportacionDTO> importar(FormatoDeIntercambio formato, String entrada) throws IOException {
+        List<ResultadoDeImportacionDTO> resultados = new ArrayList<>();
+        importacionService.importar(new BufferedReader(new StringReader(entrada)), formato, resultados::addAll);
+        return resultados;
+    }
+}